@@ -12,7 +12,7 @@ public final class BookReader {
     public String book;
 
     /** Stores all words from the parsed txt document. */
-    public final MyLinkedList<String> words;
+    public final MyUnrolledLinkedList<String> words;
 
     /** Default constructor if no file name is passed into constructor. */
     public BookReader() {
@@ -26,7 +26,7 @@ public final class BookReader {
     public BookReader(final String theFileName) {
         super();
         book = "";
-        words = new MyLinkedList<>();
+        words = new MyUnrolledLinkedList<>();
         readBook(theFileName);
         parseWords();
     }
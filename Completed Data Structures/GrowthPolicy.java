@@ -0,0 +1,51 @@
+/**
+ * Decides how large the backing array of a dynamically sized
+ * data structure becomes once it runs out of room.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /** The largest array length that is safe to request from the JVM. */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /** Doubles the capacity. */
+    GrowthPolicy DOUBLE = theCapacity -> theCapacity << 1;
+
+    /** Grows the capacity by half. */
+    GrowthPolicy ONE_AND_A_HALF = theCapacity -> theCapacity + (theCapacity >> 1);
+
+    /**
+     * Returns a policy that grows the capacity by theChunk slots at a time.
+     * @param theChunk how many slots are added on each growth.
+     * @return a policy that grows by a fixed number of slots.
+     */
+    static GrowthPolicy fixedChunk(final int theChunk) {
+        if (theChunk < 1) {
+            throw new IllegalArgumentException();
+        }
+        return theCapacity -> theCapacity + theChunk;
+    }
+
+    /**
+     * Returns the capacity that should follow theCapacity.
+     * @param theCapacity the current capacity.
+     * @return the grown capacity, which may overflow.
+     */
+    int grow(int theCapacity);
+
+    /**
+     * Returns the capacity to grow to so at least theMinCapacity items fit.
+     * @param theCapacity    the current capacity.
+     * @param theMinCapacity the number of items that must fit.
+     * @return the new capacity.
+     */
+    default int nextCapacity(final int theCapacity, final int theMinCapacity) {
+        if (theMinCapacity < 0 || theMinCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length is too large");
+        }
+        final int grown = grow(theCapacity);
+        return grown < 0 || grown > MAX_CAPACITY ? MAX_CAPACITY : Math.max(grown, theMinCapacity);
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * A data structure used as a double ended queue backed by a circular array.
+ * Adding and removing at either end is O(1) and items can be read by index.
+ * @param <T> The generic type of this data structure.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyArrayDeque<T> {
+
+    /** The default size the array will be instantiated to. */
+    private static final int DEFAULT_SIZE = 16;
+
+    /** Decides how much the array grows when it runs out of room. */
+    private final GrowthPolicy myGrowthPolicy;
+
+    /** The circular array used to store the elements. */
+    private T[] myArray;
+
+    /** The slot of the first element. */
+    private int myHead;
+
+    /** How many elements are stored in the deque. */
+    private int mySize;
+
+    /** Constructor used to instantiate a new MyArrayDeque. */
+    public MyArrayDeque() {
+        this(DEFAULT_SIZE, GrowthPolicy.DOUBLE);
+    }
+
+    /**
+     * Constructor used to instantiate a new MyArrayDeque with the given
+     * starting capacity and growth policy.
+     * @param theCapacity     the number of items the deque can hold before it first grows.
+     * @param theGrowthPolicy decides how much the array grows when it runs out of room.
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayDeque(final int theCapacity, final GrowthPolicy theGrowthPolicy) {
+        super();
+        if (theCapacity < 0 || theGrowthPolicy == null) {
+            throw new IllegalArgumentException();
+        }
+        myGrowthPolicy = theGrowthPolicy;
+        myArray = (T[]) new Object[theCapacity];
+        myHead = 0;
+        mySize = 0;
+    }
+
+    /**
+     * Adds the item to the front of the deque.
+     * @param theItem the item being added.
+     */
+    public void addFirst(final T theItem) {
+        if (mySize == myArray.length) {
+            resize();
+        }
+        myHead = myHead == 0 ? myArray.length - 1 : myHead - 1;
+        myArray[myHead] = theItem;
+        mySize++;
+    }
+
+    /**
+     * Adds the item to the back of the deque.
+     * @param theItem the item being added.
+     */
+    public void addLast(final T theItem) {
+        if (mySize == myArray.length) {
+            resize();
+        }
+        myArray[slot(mySize)] = theItem;
+        mySize++;
+    }
+
+    /**
+     * Removes and returns the item at the front of the deque.
+     * @return the item at the front, or null if the deque is empty.
+     */
+    public T pollFirst() {
+        T result = null;
+        if (mySize > 0) {
+            result = myArray[myHead];
+            myArray[myHead] = null;
+            myHead = myHead == myArray.length - 1 ? 0 : myHead + 1;
+            mySize--;
+        }
+        return result;
+    }
+
+    /**
+     * Removes and returns the item at the back of the deque.
+     * @return the item at the back, or null if the deque is empty.
+     */
+    public T pollLast() {
+        T result = null;
+        if (mySize > 0) {
+            final int tail = slot(mySize - 1);
+            result = myArray[tail];
+            myArray[tail] = null;
+            mySize--;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the item at the front of the deque without removing it.
+     * @return the item at the front, or null if the deque is empty.
+     */
+    public T peekFirst() {
+        return get(0);
+    }
+
+    /**
+     * Returns the item at the back of the deque without removing it.
+     * @return the item at the back, or null if the deque is empty.
+     */
+    public T peekLast() {
+        return get(mySize - 1);
+    }
+
+    /**
+     * Returns the item for the given index, counted from the front,
+     * or null if there is no such index.
+     * @param theIndex the index of the item to be retrieved.
+     * @return The at the index or null if no such index.
+     */
+    public T get(final int theIndex) {
+        return mySize > theIndex && theIndex > -1 ? myArray[slot(theIndex)] : null;
+    }
+
+    /**
+     * Updates the element at the given index or if out bounds does nothing.
+     * @param theIndex The index for the given item to be set.
+     * @param theItem The item to be set of the given index.
+     */
+    public void set(final int theIndex, final T theItem) {
+        if (mySize > theIndex && theIndex > -1) {
+            myArray[slot(theIndex)] = theItem;
+        }
+    }
+
+    /** Maps an index of the deque to its slot in the circular array. */
+    private int slot(final int theIndex) {
+        final int slot = myHead + theIndex;
+        return slot >= myArray.length ? slot - myArray.length : slot;
+    }
+
+    /** Grows the array by the growth policy and unwraps the items to start at 0. */
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        final T[] temp = (T[]) new Object[myGrowthPolicy.nextCapacity(myArray.length, mySize + 1)];
+        final int headLength = Math.min(mySize, myArray.length - myHead);
+        System.arraycopy(myArray, myHead, temp, 0, headLength);
+        System.arraycopy(myArray, 0, temp, headLength, mySize - headLength);
+        myArray = temp;
+        myHead = 0;
+    }
+
+    /**
+     * Returns the size of the deque.
+     * @return The size of the deque.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Returns if the deque is empty.
+     * @return returns if the deque is empty.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (isEmpty()) {
+            builder.append(']');
+        } else {
+            for (int i = 0; i < mySize - 1; i++) {
+                builder.append(myArray[slot(i)]).append(", ");
+            }
+            builder.append(myArray[slot(mySize - 1)]).append(']');
+        }
+        return builder.toString();
+    }
+}
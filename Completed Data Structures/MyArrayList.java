@@ -1,14 +1,31 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A data structure used as a dynamically sized array.
  * @param <T> The generic type of this data structure.
  * @author Brandon Ragghianti (braggs03)
  * @version Winter 2024
  */
-public class MyArrayList<T extends Comparable<T>> {
+public class MyArrayList<T extends Comparable<T>> implements Iterable<T> {
 
     /** The default size the array will be instantiated to. */
     private static final int DEFAULT_SIZE = 16;
 
+    /** Runs no longer than this are sorted with insertion sort instead of merged. */
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    /** Runs shorter than this are not split any further by parallelSort. */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
     /** The array used to store the elements. */
     private T[] myArray;
 
@@ -18,13 +35,42 @@ public class MyArrayList<T extends Comparable<T>> {
     /** How many elements are stored in the list. */
     private int mySize;
 
+    /** If the elements are known to be in ascending natural order. */
+    private boolean mySorted;
+
+    /** Decides how much the array grows when it runs out of room. */
+    private final GrowthPolicy myGrowthPolicy;
+
     /** Constructor used to instantiate a new MyArrayList. */
-    @SuppressWarnings("unchecked")
     public MyArrayList() {
+        this(DEFAULT_SIZE, GrowthPolicy.DOUBLE);
+    }
+
+    /**
+     * Constructor used to instantiate a new MyArrayList with the given starting capacity.
+     * @param theCapacity the number of items the list can hold before it first grows.
+     */
+    public MyArrayList(final int theCapacity) {
+        this(theCapacity, GrowthPolicy.DOUBLE);
+    }
+
+    /**
+     * Constructor used to instantiate a new MyArrayList with the given
+     * starting capacity and growth policy.
+     * @param theCapacity     the number of items the list can hold before it first grows.
+     * @param theGrowthPolicy decides how much the array grows when it runs out of room.
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayList(final int theCapacity, final GrowthPolicy theGrowthPolicy) {
         super();
-        myArray = (T[]) new Comparable[DEFAULT_SIZE];
-        myCapacity = DEFAULT_SIZE;
+        if (theCapacity < 0 || theGrowthPolicy == null) {
+            throw new IllegalArgumentException();
+        }
+        myArray = (T[]) new Comparable[theCapacity];
+        myCapacity = theCapacity;
         mySize = 0;
+        mySorted = true;
+        myGrowthPolicy = theGrowthPolicy;
     }
 
     /**
@@ -37,57 +83,223 @@ public class MyArrayList<T extends Comparable<T>> {
             if (mySize == myCapacity) {
                 resize();
             }
-            for (int i = mySize; i > theIndex; i--) {
-                myArray[i] = myArray[i - 1];
-            }
+            mySorted = mySorted && theItem != null
+                       && (theIndex == 0 || inOrder(myArray[theIndex - 1], theItem))
+                       && (theIndex == mySize || inOrder(theItem, myArray[theIndex]));
+            System.arraycopy(myArray, theIndex, myArray, theIndex + 1, mySize - theIndex);
             myArray[theIndex] = theItem;
             mySize++;
         }
     }
 
-    /** Doubles the size of the array. */
+    /**
+     * Appends every item of theSource to the end of this list.
+     * @param theSource the list whose items are being appended.
+     */
+    public void addAll(final MyArrayList<T> theSource) {
+        insertAll(mySize, theSource);
+    }
+
+    /**
+     * Inserts every item of theSource, in order, starting at the given index.
+     * The tail is shifted once and the array is resized at most once.
+     * @param theIndex  the index the first item is being inserted at.
+     * @param theSource the list whose items are being inserted.
+     */
+    public void insertAll(final int theIndex, final MyArrayList<T> theSource) {
+        if (theIndex < mySize + 1 && theIndex > -1 && theSource != null
+            && !theSource.isEmpty()) {
+            final int count = theSource.mySize;
+            final T[] items = theSource == this
+                              ? Arrays.copyOf(myArray, mySize) : theSource.myArray;
+            if (mySize + count > myCapacity) {
+                resize(mySize + count);
+            }
+            mySorted = mySorted && theSource.mySorted
+                       && (theIndex == 0 || inOrder(myArray[theIndex - 1], items[0]))
+                       && (theIndex == mySize || inOrder(items[count - 1], myArray[theIndex]));
+            System.arraycopy(myArray, theIndex, myArray, theIndex + count, mySize - theIndex);
+            System.arraycopy(items, 0, myArray, theIndex, count);
+            mySize += count;
+        }
+    }
+
+    /**
+     * Merges the items of theSource into this list so the result is sorted, in one
+     * linear pass from the back. Either list is sorted first if it is not known to be.
+     * Items from theSource go after equal items already in this list.
+     * @param theSource the list whose items are being merged in.
+     */
     @SuppressWarnings("unchecked")
+    public void mergeSorted(final MyArrayList<T> theSource) {
+        if (theSource != null && !theSource.isEmpty()) {
+            if (!mySorted) {
+                sort();
+            }
+            T[] items = theSource.myArray;
+            final int count = theSource.mySize;
+            if (theSource == this || !theSource.mySorted) {
+                items = Arrays.copyOf(items, count);
+                if (!theSource.mySorted) {
+                    Arrays.sort(items, 0, count);
+                }
+            }
+            ensureCapacity(mySize + count);
+            int i = mySize - 1;
+            int j = count - 1;
+            int k = mySize + count - 1;
+            while (j >= 0) {
+                myArray[k--] = i >= 0 && myArray[i].compareTo(items[j]) > 0
+                               ? myArray[i--] : items[j--];
+            }
+            mySize += count;
+        }
+    }
+
+    /**
+     * Grows the array, if needed, so it can hold theMinCapacity items without resizing.
+     * @param theMinCapacity the number of items the list must be able to hold.
+     */
+    public void ensureCapacity(final int theMinCapacity) {
+        if (theMinCapacity > myCapacity) {
+            resize(theMinCapacity);
+        }
+    }
+
+    /** Shrinks the array so its capacity matches the size of the list. */
+    public void trimToSize() {
+        if (mySize < myCapacity) {
+            reallocate(mySize);
+        }
+    }
+
+    /** Grows the array by one step of the growth policy. */
     private void resize() {
-        myCapacity <<= 2;
+        resize(mySize + 1);
+    }
+
+    /**
+     * Grows the array by the growth policy, or further if that is still too small to hold
+     * theMinCapacity items, copying only once.
+     * @param theMinCapacity the number of items the array must be able to hold.
+     */
+    private void resize(final int theMinCapacity) {
+        reallocate(myGrowthPolicy.nextCapacity(myCapacity, theMinCapacity));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reallocate(final int theCapacity) {
+        myCapacity = theCapacity;
         final T[] temp = (T[]) new Comparable[myCapacity];
         System.arraycopy(myArray, 0, temp, 0, mySize);
         myArray = temp;
     }
 
+    /**
+     * Returns how many items the list can hold before it next grows.
+     * @return The capacity of the list.
+     */
+    public int capacity() {
+        return myCapacity;
+    }
+
     /** Sorts the MyArrayList using MergeSort. */
     public void sort() {
-        mergeSort(this, 0, mySize - 1);
+        sort(Comparator.naturalOrder());
     }
 
-    private void mergeSort(final MyArrayList<T> theArray,
-                           final int theStart,
-                           final int theEnd) {
-        if (theStart < theEnd) {
-            final int mid = ((theStart + theEnd) / 2) + 1;
-            mergeSort(this, theStart, mid - 1);
-            mergeSort(this, mid, theEnd);
-            merge(this, theStart, mid, theEnd);
+    /**
+     * Sorts the MyArrayList using a stable MergeSort ordered by theComparator.
+     * A single scratch array, half the size of the list, is shared by every merge.
+     * @param theComparator the comparator used to order the items.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void sort(final Comparator<? super T> theComparator) {
+        if (mySize > 1) {
+            final T[] buffer = (T[]) new Comparable[mySize / 2 + 1];
+            mergeSort(buffer, 0, theComparator, 0, mySize - 1);
+            mySorted = theComparator == Comparator.<T>naturalOrder();
         }
+        checkTriviallySorted();
     }
 
-    private void merge(final MyArrayList<T> theArray, final int theStart,
-                       final int theMiddle, final int theEnd) {
-        int i = theStart;
-        int j = theMiddle;
-        final MyArrayList<T> temp = new MyArrayList<>();
-        while (i < theMiddle && j < theEnd + 1) {
-            temp.insert(theArray.get(i).compareTo(theArray.get(j)) <= 0
-                 ? theArray.get(i++) : theArray.get(j++), temp.size());
+    /** Sorts the MyArrayList using MergeSort split across the common ForkJoinPool. */
+    public void parallelSort() {
+        parallelSort(Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the MyArrayList using a stable MergeSort split across the common ForkJoinPool.
+     * @param theComparator the comparator used to order the items.
+     */
+    public void parallelSort(final Comparator<? super T> theComparator) {
+        parallelSort(theComparator, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the MyArrayList using a stable MergeSort split across thePool.
+     * Runs shorter than theThreshold are sorted sequentially, so the resulting
+     * order is identical to sort(theComparator).
+     * @param theComparator the comparator used to order the items.
+     * @param thePool       the pool the sort is run in.
+     * @param theThreshold  the run length below which the sort stops splitting.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void parallelSort(final Comparator<? super T> theComparator,
+                             final ForkJoinPool thePool, final int theThreshold) {
+        if (theThreshold < 1) {
+            throw new IllegalArgumentException();
         }
-        while (i < theMiddle) {
-            temp.insert(theArray.get(i++), temp.size());
+        if (mySize > 1) {
+            final T[] buffer = (T[]) new Comparable[mySize];
+            thePool.invoke(new SortTask(buffer, theComparator, theThreshold, 0, mySize - 1));
+            mySorted = theComparator == Comparator.<T>naturalOrder();
         }
-        while (j < theEnd + 1) {
-            temp.insert(theArray.get(j++), temp.size());
+        checkTriviallySorted();
+    }
+
+    private void mergeSort(final T[] theBuffer, final int theBufferStart,
+                           final Comparator<? super T> theComparator,
+                           final int theStart, final int theEnd) {
+        if (theEnd - theStart < INSERTION_SORT_CUTOFF) {
+            insertionSort(theComparator, theStart, theEnd);
+        } else {
+            final int mid = ((theStart + theEnd) / 2) + 1;
+            mergeSort(theBuffer, theBufferStart, theComparator, theStart, mid - 1);
+            mergeSort(theBuffer, theBufferStart, theComparator, mid, theEnd);
+            if (theComparator.compare(myArray[mid - 1], myArray[mid]) > 0) {
+                merge(theBuffer, theBufferStart, theComparator, theStart, mid, theEnd);
+            }
         }
-        for (int k = 0; k < temp.size(); k++) {
-            theArray.set(theStart + k, temp.get(k));
+    }
+
+    private void insertionSort(final Comparator<? super T> theComparator,
+                               final int theStart, final int theEnd) {
+        for (int i = theStart + 1; i <= theEnd; i++) {
+            final T item = myArray[i];
+            int j = i - 1;
+            while (j >= theStart && theComparator.compare(myArray[j], item) > 0) {
+                myArray[j + 1] = myArray[j];
+                j--;
+            }
+            myArray[j + 1] = item;
+        }
+    }
+
+    private void merge(final T[] theBuffer, final int theBufferStart,
+                       final Comparator<? super T> theComparator,
+                       final int theStart, final int theMiddle, final int theEnd) {
+        final int leftLength = theMiddle - theStart;
+        final int leftEnd = theBufferStart + leftLength;
+        System.arraycopy(myArray, theStart, theBuffer, theBufferStart, leftLength);
+        int i = theBufferStart;
+        int j = theMiddle;
+        int k = theStart;
+        while (i < leftEnd && j < theEnd + 1) {
+            myArray[k++] = theComparator.compare(myArray[j], theBuffer[i]) < 0
+                           ? myArray[j++] : theBuffer[i++];
         }
+        System.arraycopy(theBuffer, i, myArray, k, leftEnd - i);
     }
 
     /**
@@ -98,48 +310,163 @@ public class MyArrayList<T extends Comparable<T>> {
         T item = null;
         if (mySize > theIndex && theIndex > -1) {
             item = myArray[theIndex];
-            for (int i = theIndex; i < mySize - 1; i++) {
-                myArray[i] = myArray[i + 1];
-            }
+            System.arraycopy(myArray, theIndex + 1, myArray, theIndex, mySize - theIndex - 1);
             mySize--;
+            myArray[mySize] = null;
+            checkTriviallySorted();
         }
         return item;
     }
 
+    /**
+     * Removes the items from theFrom, inclusive, to theTo, exclusive,
+     * or does nothing if the range is out of bounds.
+     * @param theFrom the index of the first item being removed.
+     * @param theTo   the index after the last item being removed.
+     */
+    public void removeRange(final int theFrom, final int theTo) {
+        if (theFrom > -1 && theFrom < theTo && theTo <= mySize) {
+            System.arraycopy(myArray, theTo, myArray, theFrom, mySize - theTo);
+            final int newSize = mySize - (theTo - theFrom);
+            Arrays.fill(myArray, newSize, mySize, null);
+            mySize = newSize;
+            checkTriviallySorted();
+        }
+    }
+
     /**
      * If the given item is in the list.
+     * Uses binary search when the list is known to be sorted.
      * @param theItem element whose presence in this list is to be tested.
      * @return true if this list contains the specified element.
      */
     public boolean contains(final T theItem) {
         boolean result = false;
-        for (int i = 0; i < mySize; i++) {
-            if (myArray[i] != null && myArray[i].compareTo(theItem) == 0) {
-                result = true;
-                break;
-            } else if (theItem == null) {
-                result = true;
-                break;
+        if (mySorted && theItem != null) {
+            final int index = lowerBound(theItem);
+            result = index < mySize && myArray[index].compareTo(theItem) == 0;
+        } else {
+            for (int i = 0; i < mySize; i++) {
+                if (myArray[i] != null && myArray[i].compareTo(theItem) == 0) {
+                    result = true;
+                    break;
+                } else if (theItem == null) {
+                    result = true;
+                    break;
+                }
             }
         }
         return result;
     }
 
     /**
-     * Finds index of given item or -1 if there is no such index.
+     * Finds the first index of given item or -1 if there is no such index.
+     * Uses binary search when the list is known to be sorted.
      * @param theItem the item to search for.
      * @return the index of the item.
      */
     public int indexOf(final T theItem) {
         int result = -1;
-        for (int i = 0; i < myCapacity; i++) {
-            if (myArray[i] != null && myArray[i].equals(theItem)) {
-                result = i;
+        if (mySorted && theItem != null) {
+            for (int i = lowerBound(theItem);
+                 i < mySize && myArray[i].compareTo(theItem) == 0; i++) {
+                if (myArray[i].equals(theItem)) {
+                    result = i;
+                    break;
+                }
+            }
+        } else {
+            for (int i = 0; i < mySize; i++) {
+                if (myArray[i] != null && myArray[i].equals(theItem)) {
+                    result = i;
+                    break;
+                }
             }
         }
         return result;
     }
 
+    /**
+     * Finds an index of the given item using binary search, or -1 if there is no such index.
+     * The list must be sorted.
+     * @param theItem the item to search for.
+     * @return the index of the item.
+     */
+    public int binarySearch(final T theItem) {
+        final int index = lowerBound(theItem);
+        return index < mySize && myArray[index].compareTo(theItem) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first item not less than theItem. The list must be sorted.
+     * @param theItem the item to search for.
+     * @return the index of the first item not less than theItem, or size if there is none.
+     */
+    public int lowerBound(final T theItem) {
+        int low = 0;
+        int high = mySize;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (myArray[mid].compareTo(theItem) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item greater than theItem. The list must be sorted.
+     * @param theItem the item to search for.
+     * @return the index of the first item greater than theItem, or size if there is none.
+     */
+    public int upperBound(final T theItem) {
+        int low = 0;
+        int high = mySize;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (myArray[mid].compareTo(theItem) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a read-only view of the items from theFrom, inclusive, to theTo, exclusive.
+     * The list must be sorted, and the view is only valid until the list is next modified.
+     * @param theFrom the lowest item in the view.
+     * @param theTo   the item every item in the view is less than.
+     * @return a view of the items in the given range.
+     */
+    public RangeView rangeView(final T theFrom, final T theTo) {
+        final int start = lowerBound(theFrom);
+        return new RangeView(start, Math.max(start, lowerBound(theTo)));
+    }
+
+    /**
+     * Returns if the list is known to be in ascending order, either because it
+     * was sorted or because every change since has kept it in order.
+     * @return if the list is known to be sorted.
+     */
+    public boolean isSorted() {
+        return mySorted;
+    }
+
+    /** Marks the list sorted if it is empty or holds a single non-null item. */
+    private void checkTriviallySorted() {
+        if (mySize == 0 || mySize == 1 && myArray[0] != null) {
+            mySorted = true;
+        }
+    }
+
+    private boolean inOrder(final T theFirst, final T theSecond) {
+        return theFirst != null && theSecond != null && theFirst.compareTo(theSecond) <= 0;
+    }
+
     /**
      * Returns the item for the given index or null if there is no such index.
      * @param theIndex the index of the item to be retrieved.
@@ -156,7 +483,11 @@ public class MyArrayList<T extends Comparable<T>> {
      */
     public void set(final int theIndex, final T theItem) {
         if (mySize > theIndex && theIndex > -1) {
+            mySorted = mySorted && theItem != null
+                       && (theIndex == 0 || inOrder(myArray[theIndex - 1], theItem))
+                       && (theIndex == mySize - 1 || inOrder(theItem, myArray[theIndex + 1]));
             myArray[theIndex] = theItem;
+            checkTriviallySorted();
         }
     }
 
@@ -176,6 +507,41 @@ public class MyArrayList<T extends Comparable<T>> {
         return mySize == 0;
     }
 
+    /**
+     * Returns an iterator over the items of the list in index order.
+     * @return an iterator over the items of the list.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayIterator();
+    }
+
+    /**
+     * Returns a SIZED and SUBSIZED spliterator directly over the backing array.
+     * The spliterator is only valid until the list is next modified.
+     * @return a spliterator over the items of the list.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(myArray, 0, mySize, Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream over the items of the list.
+     * @return a sequential stream over the items of the list.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the items of the list.
+     * @return a parallel stream over the items of the list.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
@@ -190,4 +556,125 @@ public class MyArrayList<T extends Comparable<T>> {
         }
         return builder.toString();
     }
+
+    /** Walks the backing array directly, without the bounds checks of get. */
+    private final class ArrayIterator implements Iterator<T> {
+
+        /** The index of the next item to be returned. */
+        private int myCursor;
+
+        @Override
+        public boolean hasNext() {
+            return myCursor < mySize;
+        }
+
+        @Override
+        public T next() {
+            if (myCursor >= mySize) {
+                throw new NoSuchElementException();
+            }
+            return myArray[myCursor++];
+        }
+    }
+
+    /** A read-only window onto a contiguous run of a sorted MyArrayList. */
+    public final class RangeView {
+
+        /** The index of the first item in the view. */
+        private final int myStart;
+
+        /** The index after the last item in the view. */
+        private final int myEnd;
+
+        private RangeView(final int theStart, final int theEnd) {
+            super();
+            myStart = theStart;
+            myEnd = theEnd;
+        }
+
+        /**
+         * Returns the item for the given index or null if there is no such index.
+         * @param theIndex the index of the item relative to the start of the view.
+         * @return The item at the index or null if no such index.
+         */
+        public T get(final int theIndex) {
+            return myEnd - myStart > theIndex && theIndex > -1 ? myArray[myStart + theIndex] : null;
+        }
+
+        /**
+         * Returns the size of the view.
+         * @return The size of the view.
+         */
+        public int size() {
+            return myEnd - myStart;
+        }
+
+        /**
+         * Returns if the view is empty.
+         * @return returns if the view is empty.
+         */
+        public boolean isEmpty() {
+            return myEnd == myStart;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            builder.append('[');
+            for (int i = myStart; i < myEnd; i++) {
+                builder.append(myArray[i]);
+                if (i < myEnd - 1) {
+                    builder.append(", ");
+                }
+            }
+            return builder.append(']').toString();
+        }
+    }
+
+    /**
+     * A MergeSort step run by parallelSort. Each task owns the region of the
+     * scratch array that matches its run, so sibling tasks never share it.
+     */
+    @SuppressWarnings("serial")
+    private final class SortTask extends RecursiveAction {
+
+        /** The scratch array shared by all tasks of one sort. */
+        private final T[] myBuffer;
+
+        /** The comparator used to order the items. */
+        private final Comparator<? super T> myComparator;
+
+        /** The run length below which this task sorts sequentially. */
+        private final int myThreshold;
+
+        /** The index of the first item of this run. */
+        private final int myStart;
+
+        /** The index of the last item of this run. */
+        private final int myEnd;
+
+        private SortTask(final T[] theBuffer, final Comparator<? super T> theComparator,
+                         final int theThreshold, final int theStart, final int theEnd) {
+            super();
+            myBuffer = theBuffer;
+            myComparator = theComparator;
+            myThreshold = theThreshold;
+            myStart = theStart;
+            myEnd = theEnd;
+        }
+
+        @Override
+        protected void compute() {
+            if (myEnd - myStart < myThreshold) {
+                mergeSort(myBuffer, myStart, myComparator, myStart, myEnd);
+            } else {
+                final int mid = ((myStart + myEnd) / 2) + 1;
+                invokeAll(new SortTask(myBuffer, myComparator, myThreshold, myStart, mid - 1),
+                          new SortTask(myBuffer, myComparator, myThreshold, mid, myEnd));
+                if (myComparator.compare(myArray[mid - 1], myArray[mid]) > 0) {
+                    merge(myBuffer, myStart, myComparator, myStart, mid, myEnd);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,211 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyArrayListTest
+{
+	private MyArrayList<Key> keys;
+	private Random random;
+
+	@BeforeEach
+	public final void setup()
+	{
+		keys = new MyArrayList<>();
+		random = new Random(342);
+	}
+
+	@Test
+	public final void parallel_sort_is_stable()
+	{
+		final Comparator<Key> byKey = Comparator.comparingInt(theKey -> theKey.myKey);
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (final int size : new int[] {0, 1, 2, 17, 1000, 50000}) {
+				for (final int threshold : new int[] {1, 2, 16, 100, 8192}) {
+					final MyArrayList<Key> sequential = new MyArrayList<>();
+					final MyArrayList<Key> parallel = new MyArrayList<>();
+					for (int i = 0; i < size; i++) {
+						final Key key = new Key(random.nextInt(20), i);
+						sequential.insert(key, i);
+						parallel.insert(key, i);
+					}
+					sequential.sort(byKey);
+					parallel.parallelSort(byKey, pool, threshold);
+					for (int i = 0; i < size; i++) {
+						assertEquals(sequential.get(i), parallel.get(i),
+								"parallel_sort_is_stable fail at " + i + " threshold " + threshold);
+					}
+					for (int i = 1; i < size; i++) {
+						final Key previous = parallel.get(i - 1);
+						final Key current = parallel.get(i);
+						assertTrue(previous.myKey < current.myKey
+								|| previous.myKey == current.myKey && previous.myOrder < current.myOrder,
+								"parallel_sort_is_stable order fail at " + i);
+					}
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public final void parallel_sort_natural_order()
+	{
+		for (int i = 0; i < 20000; i++) {
+			keys.insert(new Key(random.nextInt(50), i), i);
+		}
+		keys.parallelSort();
+		assertTrue(keys.isSorted(), "parallel_sort_natural_order fail");
+		for (int i = 1; i < keys.size(); i++) {
+			assertTrue(keys.get(i - 1).compareTo(keys.get(i)) <= 0,
+					"parallel_sort_natural_order fail at " + i);
+		}
+	}
+
+	@Test
+	public final void sorted_flag_insert_set_remove()
+	{
+		final MyArrayList<String> list = new MyArrayList<>();
+		assertTrue(list.isSorted(), "sorted_flag fail");
+		list.insert("b", 0);
+		list.insert("d", 1);
+		list.insert("a", 0);
+		list.insert("c", 2);
+		assertTrue(list.isSorted(), "sorted_flag fail");
+		list.insert("e", 0);
+		assertFalse(list.isSorted(), "sorted_flag fail");
+		assertTrue(list.contains("e"), "sorted_flag fail");
+		assertEquals(0, list.indexOf("e"), "sorted_flag fail");
+		list.set(0, "a");
+		assertFalse(list.isSorted(), "sorted_flag fail");
+		list.removeRange(1, 5);
+		assertTrue(list.isSorted(), "sorted_flag single item fail");
+		list.insert("z", 1);
+		list.set(1, "0");
+		assertFalse(list.isSorted(), "sorted_flag fail");
+		list.remove(0);
+		assertTrue(list.isSorted(), "sorted_flag single item fail");
+		list.remove(0);
+		assertTrue(list.isSorted(), "sorted_flag empty fail");
+		list.insert("b", 0);
+		list.insert("a", 1);
+		list.sort(Comparator.reverseOrder());
+		assertFalse(list.isSorted(), "sorted_flag reverse sort fail");
+		list.sort();
+		assertTrue(list.isSorted(), "sorted_flag sort fail");
+		assertEquals("[a, b]", list.toString(), "sorted_flag fail");
+	}
+
+	@Test
+	public final void sorted_flag_null()
+	{
+		final MyArrayList<String> list = new MyArrayList<>();
+		list.insert(null, 0);
+		assertFalse(list.isSorted(), "sorted_flag_null fail");
+		assertFalse(list.contains("a"), "sorted_flag_null fail");
+		assertEquals(-1, list.indexOf("a"), "sorted_flag_null fail");
+		list.remove(0);
+		assertTrue(list.isSorted(), "sorted_flag_null empty fail");
+		list.insert("a", 0);
+		list.set(0, null);
+		assertFalse(list.isSorted(), "sorted_flag_null fail");
+		assertFalse(list.contains("a"), "sorted_flag_null fail");
+		list.set(0, "a");
+		assertTrue(list.isSorted(), "sorted_flag_null single item fail");
+		list.insert(null, 1);
+		assertFalse(list.isSorted(), "sorted_flag_null fail");
+		assertEquals(0, list.indexOf("a"), "sorted_flag_null fail");
+		list.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+		assertFalse(list.isSorted(), "sorted_flag_null fail");
+	}
+
+	@Test
+	public final void sorted_flag_insert_all()
+	{
+		final MyArrayList<String> list = new MyArrayList<>();
+		final MyArrayList<String> middle = new MyArrayList<>();
+		list.insert("a", 0);
+		list.insert("e", 1);
+		middle.insert("b", 0);
+		middle.insert("d", 1);
+		list.insertAll(1, middle);
+		assertTrue(list.isSorted(), "sorted_flag_insert_all fail");
+		list.insertAll(0, middle);
+		assertFalse(list.isSorted(), "sorted_flag_insert_all fail");
+		assertEquals("[b, d, a, b, d, e]", list.toString(), "sorted_flag_insert_all fail");
+
+		final MyArrayList<String> sorted = new MyArrayList<>();
+		final MyArrayList<String> withNull = new MyArrayList<>();
+		withNull.insert(null, 0);
+		sorted.insertAll(0, withNull);
+		assertFalse(sorted.isSorted(), "sorted_flag_insert_all null fail");
+		assertFalse(sorted.contains("a"), "sorted_flag_insert_all null fail");
+	}
+
+	@Test
+	public final void contains_index_of_fast_path()
+	{
+		final Key[] all = new Key[5000];
+		for (int i = 0; i < all.length; i++) {
+			all[i] = new Key(random.nextInt(500), i);
+			keys.insert(all[i], keys.upperBound(all[i]));
+		}
+		assertTrue(keys.isSorted(), "fast_path fail");
+		for (final Key key : all) {
+			int expected = -1;
+			for (int i = 0; i < keys.size(); i++) {
+				if (keys.get(i) == key) {
+					expected = i;
+					break;
+				}
+			}
+			assertEquals(expected, keys.indexOf(key), "fast_path indexOf fail");
+			assertTrue(keys.contains(key), "fast_path contains fail");
+		}
+		assertEquals(-1, keys.indexOf(new Key(7, -1)), "fast_path missing fail");
+		assertFalse(keys.contains(new Key(-1, -1)), "fast_path missing fail");
+		assertFalse(keys.contains(new Key(500, -1)), "fast_path missing fail");
+
+		final MyOrderedList<Key> ordered = new MyOrderedList<>();
+		for (final Key key : all) {
+			ordered.add(key);
+		}
+		for (int i = all.length - 1; i >= 0; i -= 2) {
+			assertEquals(all[i], ordered.remove(all[i]), "ordered remove fail");
+			assertEquals(null, ordered.remove(all[i]), "ordered remove twice fail");
+		}
+		assertEquals(all.length / 2, ordered.size(), "ordered remove fail");
+		assertNull(ordered.remove(null), "ordered remove null fail");
+	}
+
+	/** An item ordered only by myKey, remembering the order it was inserted in. */
+	private static final class Key implements Comparable<Key>
+	{
+		private final int myKey;
+		private final int myOrder;
+
+		private Key(final int theKey, final int theOrder)
+		{
+			myKey = theKey;
+			myOrder = theOrder;
+		}
+
+		@Override
+		public int compareTo(final Key theOther)
+		{
+			return Integer.compare(myKey, theOther.myKey);
+		}
+
+		@Override
+		public String toString()
+		{
+			return myKey + "#" + myOrder;
+		}
+	}
+}
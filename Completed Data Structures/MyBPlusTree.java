@@ -0,0 +1,478 @@
+/**
+ * A data structure in which all elements added to it will be placed in
+ * order based off compareTo, with the same add/remove/binarySearch/get
+ * operations as MyOrderedList. The underlying data structure is a B+ tree:
+ * items live in linked leaves of up to 64 items, and internal nodes keep
+ * the size of every subtree, so adds, removes and lookups by index are all
+ * O(log n).
+ * @param <T> The generic type.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyBPlusTree<T extends Comparable<T>> {
+
+    /** The most items a leaf, or children an internal node, can hold. */
+    private static final int MAX_ENTRIES = 64;
+
+    /** The fewest items a leaf, or children an internal node, can hold unless it is the root. */
+    private static final int MIN_ENTRIES = MAX_ENTRIES / 2;
+
+    /** How many comparison were made in the test. */
+    public int comparisons;
+
+    /** The root of the tree. */
+    private Node<T> myRoot;
+
+    /** The separator produced by the last split during an add. */
+    private T mySplitKey;
+
+    /** Constructor used to instantiate a new MyBPlusTree. */
+    public MyBPlusTree() {
+        super();
+        myRoot = new Leaf<>();
+        comparisons = 0;
+    }
+
+    /**
+     * Adds theItem to its correct position, after any equal items.
+     * @param theItem The item being added.
+     */
+    public void add(final T theItem) {
+        final Node<T> right = add(myRoot, theItem);
+        if (right != null) {
+            final Internal<T> root = new Internal<>();
+            root.myChildren[0] = myRoot;
+            root.myChildren[1] = right;
+            root.myKeys[1] = mySplitKey;
+            root.myCounts[0] = myRoot.mySize;
+            root.myCounts[1] = right.mySize;
+            root.myChildCount = 2;
+            root.mySize = myRoot.mySize + right.mySize;
+            myRoot = root;
+        }
+        mySplitKey = null;
+    }
+
+    /**
+     * Adds theItem below theNode.
+     * @return the new right sibling of theNode if it had to split, null otherwise.
+     */
+    private Node<T> add(final Node<T> theNode, final T theItem) {
+        Node<T> result = null;
+        theNode.mySize++;
+        if (theNode instanceof Leaf<T> leaf) {
+            final int position = upperBound(leaf.myItems, 0, leaf.mySize - 1, theItem);
+            System.arraycopy(leaf.myItems, position, leaf.myItems, position + 1,
+                             leaf.mySize - 1 - position);
+            leaf.myItems[position] = theItem;
+            if (leaf.mySize > MAX_ENTRIES) {
+                result = split(leaf);
+            }
+        } else {
+            final Internal<T> node = (Internal<T>) theNode;
+            final int child = upperBound(node.myKeys, 1, node.myChildCount, theItem) - 1;
+            final Node<T> right = add(node.myChildren[child], theItem);
+            node.myCounts[child]++;
+            if (right != null) {
+                insertChild(node, child + 1, mySplitKey, right);
+                node.myCounts[child] = node.myChildren[child].mySize;
+                if (node.myChildCount > MAX_ENTRIES) {
+                    result = split(node);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Leaf<T> split(final Leaf<T> theLeaf) {
+        final Leaf<T> right = new Leaf<>();
+        final int keep = theLeaf.mySize / 2;
+        right.mySize = theLeaf.mySize - keep;
+        System.arraycopy(theLeaf.myItems, keep, right.myItems, 0, right.mySize);
+        for (int i = keep; i < theLeaf.mySize; i++) {
+            theLeaf.myItems[i] = null;
+        }
+        theLeaf.mySize = keep;
+        right.myNext = theLeaf.myNext;
+        theLeaf.myNext = right;
+        mySplitKey = right.myItems[0];
+        return right;
+    }
+
+    private Internal<T> split(final Internal<T> theNode) {
+        final Internal<T> right = new Internal<>();
+        final int keep = theNode.myChildCount / 2;
+        right.myChildCount = theNode.myChildCount - keep;
+        System.arraycopy(theNode.myChildren, keep, right.myChildren, 0, right.myChildCount);
+        System.arraycopy(theNode.myCounts, keep, right.myCounts, 0, right.myChildCount);
+        System.arraycopy(theNode.myKeys, keep + 1, right.myKeys, 1, right.myChildCount - 1);
+        mySplitKey = theNode.myKeys[keep];
+        for (int i = keep; i < theNode.myChildCount; i++) {
+            theNode.myChildren[i] = null;
+            theNode.myKeys[i] = null;
+        }
+        theNode.myChildCount = keep;
+        theNode.mySize = sum(theNode.myCounts, keep);
+        right.mySize = sum(right.myCounts, right.myChildCount);
+        return right;
+    }
+
+    /**
+     * Removes theItem if present in the list.
+     * @param theItem The item being removed.
+     * @return The item if present in the list, null if not.
+     */
+    public T remove(final T theItem) {
+        T result = null;
+        int index = lowerBound(theItem);
+        T item = get(index);
+        while (item != null && item.compareTo(theItem) == 0) {
+            if (item.equals(theItem)) {
+                result = removeAt(index);
+                break;
+            }
+            item = get(++index);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the item at the given index.
+     * @param theIndex the index of the item being removed.
+     * @return The item that was removed, null if index is out of bounds.
+     */
+    public T removeAt(final int theIndex) {
+        T result = null;
+        if (theIndex > -1 && theIndex < myRoot.mySize) {
+            result = removeAt(myRoot, theIndex);
+            if (myRoot instanceof Internal<T> root && root.myChildCount == 1) {
+                myRoot = root.myChildren[0];
+            }
+        }
+        return result;
+    }
+
+    private T removeAt(final Node<T> theNode, final int theIndex) {
+        final T result;
+        theNode.mySize--;
+        if (theNode instanceof Leaf<T> leaf) {
+            result = leaf.myItems[theIndex];
+            System.arraycopy(leaf.myItems, theIndex + 1, leaf.myItems, theIndex,
+                             leaf.mySize - theIndex);
+            leaf.myItems[leaf.mySize] = null;
+        } else {
+            final Internal<T> node = (Internal<T>) theNode;
+            int child = 0;
+            int index = theIndex;
+            while (index >= node.myCounts[child]) {
+                index -= node.myCounts[child++];
+            }
+            result = removeAt(node.myChildren[child], index);
+            node.myCounts[child]--;
+            if (entries(node.myChildren[child]) < MIN_ENTRIES) {
+                rebalance(node, child);
+            }
+        }
+        return result;
+    }
+
+    /** Refills the underfull child of theParent by borrowing from or merging with a sibling. */
+    private void rebalance(final Internal<T> theParent, final int theChild) {
+        if (theChild > 0 && entries(theParent.myChildren[theChild - 1]) > MIN_ENTRIES) {
+            borrowFromLeft(theParent, theChild);
+        } else if (theChild + 1 < theParent.myChildCount
+                   && entries(theParent.myChildren[theChild + 1]) > MIN_ENTRIES) {
+            borrowFromRight(theParent, theChild);
+        } else if (theChild > 0) {
+            merge(theParent, theChild - 1);
+        } else if (theChild + 1 < theParent.myChildCount) {
+            merge(theParent, theChild);
+        }
+    }
+
+    private void borrowFromLeft(final Internal<T> theParent, final int theChild) {
+        final Node<T> left = theParent.myChildren[theChild - 1];
+        final Node<T> node = theParent.myChildren[theChild];
+        final int moved;
+        if (node instanceof Leaf<T> leaf) {
+            final Leaf<T> leftLeaf = (Leaf<T>) left;
+            System.arraycopy(leaf.myItems, 0, leaf.myItems, 1, leaf.mySize);
+            leaf.myItems[0] = leftLeaf.myItems[leftLeaf.mySize - 1];
+            leftLeaf.myItems[leftLeaf.mySize - 1] = null;
+            theParent.myKeys[theChild] = leaf.myItems[0];
+            moved = 1;
+        } else {
+            final Internal<T> internal = (Internal<T>) node;
+            final Internal<T> leftInternal = (Internal<T>) left;
+            final int last = leftInternal.myChildCount - 1;
+            insertChild(internal, 0, null, leftInternal.myChildren[last]);
+            internal.myKeys[1] = theParent.myKeys[theChild];
+            theParent.myKeys[theChild] = leftInternal.myKeys[last];
+            moved = leftInternal.myCounts[last];
+            internal.myCounts[0] = moved;
+            removeChild(leftInternal, last);
+        }
+        left.mySize -= moved;
+        node.mySize += moved;
+        theParent.myCounts[theChild - 1] -= moved;
+        theParent.myCounts[theChild] += moved;
+    }
+
+    private void borrowFromRight(final Internal<T> theParent, final int theChild) {
+        final Node<T> node = theParent.myChildren[theChild];
+        final Node<T> right = theParent.myChildren[theChild + 1];
+        final int moved;
+        if (node instanceof Leaf<T> leaf) {
+            final Leaf<T> rightLeaf = (Leaf<T>) right;
+            leaf.myItems[leaf.mySize] = rightLeaf.myItems[0];
+            System.arraycopy(rightLeaf.myItems, 1, rightLeaf.myItems, 0, rightLeaf.mySize - 1);
+            rightLeaf.myItems[rightLeaf.mySize - 1] = null;
+            theParent.myKeys[theChild + 1] = rightLeaf.myItems[0];
+            moved = 1;
+        } else {
+            final Internal<T> internal = (Internal<T>) node;
+            final Internal<T> rightInternal = (Internal<T>) right;
+            final int last = internal.myChildCount;
+            moved = rightInternal.myCounts[0];
+            insertChild(internal, last, theParent.myKeys[theChild + 1],
+                        rightInternal.myChildren[0]);
+            internal.myCounts[last] = moved;
+            theParent.myKeys[theChild + 1] = rightInternal.myKeys[1];
+            removeChild(rightInternal, 0);
+        }
+        node.mySize += moved;
+        right.mySize -= moved;
+        theParent.myCounts[theChild] += moved;
+        theParent.myCounts[theChild + 1] -= moved;
+    }
+
+    /** Moves every entry of the child after theChild into theChild and drops it. */
+    private void merge(final Internal<T> theParent, final int theChild) {
+        final Node<T> left = theParent.myChildren[theChild];
+        final Node<T> right = theParent.myChildren[theChild + 1];
+        if (left instanceof Leaf<T> leftLeaf) {
+            final Leaf<T> rightLeaf = (Leaf<T>) right;
+            System.arraycopy(rightLeaf.myItems, 0, leftLeaf.myItems, leftLeaf.mySize,
+                             rightLeaf.mySize);
+            leftLeaf.myNext = rightLeaf.myNext;
+        } else {
+            final Internal<T> leftInternal = (Internal<T>) left;
+            final Internal<T> rightInternal = (Internal<T>) right;
+            final int start = leftInternal.myChildCount;
+            System.arraycopy(rightInternal.myChildren, 0, leftInternal.myChildren, start,
+                             rightInternal.myChildCount);
+            System.arraycopy(rightInternal.myCounts, 0, leftInternal.myCounts, start,
+                             rightInternal.myChildCount);
+            System.arraycopy(rightInternal.myKeys, 1, leftInternal.myKeys, start + 1,
+                             rightInternal.myChildCount - 1);
+            leftInternal.myKeys[start] = theParent.myKeys[theChild + 1];
+            leftInternal.myChildCount += rightInternal.myChildCount;
+        }
+        left.mySize += right.mySize;
+        theParent.myCounts[theChild] += theParent.myCounts[theChild + 1];
+        removeChild(theParent, theChild + 1);
+    }
+
+    /**
+     * Searched for theItem using binary search down the tree.
+     * @param theItem The item being searched for.
+     * @return The item if it is in the list, null if not.
+     */
+    public T binarySearch(final T theItem) {
+        final T result = get(lowerBound(theItem));
+        return result != null && result.compareTo(theItem) == 0 ? result : null;
+    }
+
+    /**
+     * Returns the index of the first item not less than theItem.
+     * @param theItem the item to search for.
+     * @return the index of the first item not less than theItem, or size if there is none.
+     */
+    public int lowerBound(final T theItem) {
+        int result = 0;
+        Node<T> node = myRoot;
+        while (node instanceof Internal<T> internal) {
+            final int child = lowerBound(internal.myKeys, 1, internal.myChildCount, theItem) - 1;
+            result += sum(internal.myCounts, child);
+            node = internal.myChildren[child];
+        }
+        final Leaf<T> leaf = (Leaf<T>) node;
+        return result + lowerBound(leaf.myItems, 0, leaf.mySize, theItem);
+    }
+
+    /**
+     * Returns the item at the given index, null if index is out of bounds.
+     * @param theIndex the index of the item to be retrieved.
+     * @return The item at the given index, null if index is out of bounds.
+     */
+    public T get(final int theIndex) {
+        T result = null;
+        if (theIndex > -1 && theIndex < myRoot.mySize) {
+            Node<T> node = myRoot;
+            int index = theIndex;
+            while (node instanceof Internal<T> internal) {
+                int child = 0;
+                while (index >= internal.myCounts[child]) {
+                    index -= internal.myCounts[child++];
+                }
+                node = internal.myChildren[child];
+            }
+            result = ((Leaf<T>) node).myItems[index];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return The size of the list.
+     */
+    public int size() {
+        return myRoot.mySize;
+    }
+
+    /**
+     * Returns if the list is empty.
+     * @return returns if the list is empty.
+     */
+    public boolean isEmpty() {
+        return myRoot.mySize == 0;
+    }
+
+    /** Returns the first index in [theStart, theEnd) whose item is not less than theItem. */
+    private int lowerBound(final T[] theItems, final int theStart, final int theEnd,
+                           final T theItem) {
+        int low = theStart;
+        int high = theEnd;
+        while (low < high) {
+            comparisons++;
+            final int mid = (low + high) >>> 1;
+            if (theItems[mid].compareTo(theItem) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Returns the first index in [theStart, theEnd) whose item is greater than theItem. */
+    private int upperBound(final T[] theItems, final int theStart, final int theEnd,
+                           final T theItem) {
+        int low = theStart;
+        int high = theEnd;
+        while (low < high) {
+            comparisons++;
+            final int mid = (low + high) >>> 1;
+            if (theItems[mid].compareTo(theItem) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Returns how many items a leaf, or children an internal node, holds. */
+    private int entries(final Node<T> theNode) {
+        return theNode instanceof Internal<T> internal ? internal.myChildCount : theNode.mySize;
+    }
+
+    private static int sum(final int[] theCounts, final int theEnd) {
+        int result = 0;
+        for (int i = 0; i < theEnd; i++) {
+            result += theCounts[i];
+        }
+        return result;
+    }
+
+    /** Inserts theChild at theIndex, with theKey as the separator before it. */
+    private void insertChild(final Internal<T> theNode, final int theIndex,
+                             final T theKey, final Node<T> theChild) {
+        final int moving = theNode.myChildCount - theIndex;
+        System.arraycopy(theNode.myChildren, theIndex, theNode.myChildren, theIndex + 1, moving);
+        System.arraycopy(theNode.myCounts, theIndex, theNode.myCounts, theIndex + 1, moving);
+        System.arraycopy(theNode.myKeys, theIndex, theNode.myKeys, theIndex + 1, moving);
+        theNode.myChildren[theIndex] = theChild;
+        theNode.myCounts[theIndex] = theChild.mySize;
+        theNode.myKeys[theIndex] = theKey;
+        theNode.myChildCount++;
+    }
+
+    /** Removes the child at theIndex along with the separator before it. */
+    private void removeChild(final Internal<T> theNode, final int theIndex) {
+        final int moving = theNode.myChildCount - theIndex - 1;
+        System.arraycopy(theNode.myChildren, theIndex + 1, theNode.myChildren, theIndex, moving);
+        System.arraycopy(theNode.myCounts, theIndex + 1, theNode.myCounts, theIndex, moving);
+        System.arraycopy(theNode.myKeys, theIndex + 1, theNode.myKeys, theIndex, moving);
+        theNode.myChildCount--;
+        theNode.myChildren[theNode.myChildCount] = null;
+        theNode.myKeys[theNode.myChildCount] = null;
+        theNode.myKeys[0] = null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        Node<T> node = myRoot;
+        while (node instanceof Internal<T> internal) {
+            node = internal.myChildren[0];
+        }
+        for (Leaf<T> leaf = (Leaf<T>) node; leaf != null; leaf = leaf.myNext) {
+            for (int i = 0; i < leaf.mySize; i++) {
+                builder.append(leaf.myItems[i]);
+                if (i < leaf.mySize - 1 || leaf.myNext != null) {
+                    builder.append(", ");
+                }
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    private abstract static class Node<T> {
+
+        /** How many items are stored below this Node. */
+        protected int mySize;
+    }
+
+    private static final class Leaf<T extends Comparable<T>> extends Node<T> {
+
+        /** The items stored in this Leaf, with room for one extra before it splits. */
+        private final T[] myItems;
+
+        /** The Leaf after this Leaf. */
+        private Leaf<T> myNext;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Leaf() {
+            super();
+            myItems = (T[]) new Comparable[MAX_ENTRIES + 1];
+        }
+    }
+
+    private static final class Internal<T extends Comparable<T>> extends Node<T> {
+
+        /** The children of this node, with room for one extra before it splits. */
+        private final Node<T>[] myChildren;
+
+        /** How many items are stored below each child. */
+        private final int[] myCounts;
+
+        /**
+         * The separator before each child: every item in the child before it
+         * is no greater than it, and every item in its child is no less. Index 0 is unused.
+         */
+        private final T[] myKeys;
+
+        /** How many children this node has. */
+        private int myChildCount;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Internal() {
+            super();
+            myChildren = new Node[MAX_ENTRIES + 1];
+            myCounts = new int[MAX_ENTRIES + 1];
+            myKeys = (T[]) new Comparable[MAX_ENTRIES + 1];
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyBPlusTreeTest
+{
+	private MyBPlusTree<Integer> tree;
+	private List<Integer> reference;
+	private Random random;
+
+	@BeforeEach
+	public final void setup()
+	{
+		tree = new MyBPlusTree<>();
+		reference = new ArrayList<>();
+		random = new Random(342);
+	}
+
+	@Test
+	public final void empty()
+	{
+		assertTrue(tree.isEmpty(), "empty fail");
+		assertEquals(0, tree.size(), "empty fail");
+		assertEquals("[]", tree.toString(), "empty fail");
+		assertNull(tree.get(0), "empty fail");
+		assertNull(tree.removeAt(0), "empty fail");
+		assertNull(tree.remove(1), "empty fail");
+		assertNull(tree.binarySearch(1), "empty fail");
+	}
+
+	@Test
+	public final void add_small()
+	{
+		tree.add(3);
+		tree.add(1);
+		tree.add(2);
+		tree.add(2);
+		assertEquals("[1, 2, 2, 3]", tree.toString(), "add_small fail");
+		assertEquals(Integer.valueOf(2), tree.get(2), "add_small fail");
+		assertEquals(1, tree.lowerBound(2), "add_small fail");
+		assertEquals(Integer.valueOf(2), tree.remove(2), "add_small fail");
+		assertEquals("[1, 2, 3]", tree.toString(), "add_small fail");
+	}
+
+	@Test
+	public final void ascending_then_remove_all()
+	{
+		for (int i = 0; i < 50000; i++) {
+			add(i);
+		}
+		check_against_reference();
+		for (int i = 0; i < 50000; i += 2) {
+			assertEquals(Integer.valueOf(i), tree.remove(i), "ascending_then_remove_all fail");
+			reference.remove(Integer.valueOf(i));
+		}
+		check_against_reference();
+		while (!reference.isEmpty()) {
+			assertEquals(reference.remove(0), tree.removeAt(0), "ascending_then_remove_all fail");
+		}
+		assertTrue(tree.isEmpty(), "ascending_then_remove_all fail");
+		assertEquals("[]", tree.toString(), "ascending_then_remove_all fail");
+	}
+
+	@Test
+	public final void random_operations()
+	{
+		for (int round = 0; round < 100000; round++) {
+			final int item = random.nextInt(5000);
+			final int operation = random.nextInt(10);
+			if (operation < 5) {
+				add(item);
+			} else if (operation < 7) {
+				final int index = reference.indexOf(item);
+				assertEquals(index < 0 ? null : reference.remove(index), tree.remove(item),
+						"remove fail");
+			} else if (operation < 9) {
+				final int index = random.nextInt(reference.size() + 2) - 1;
+				final Integer expected = index > -1 && index < reference.size()
+						? reference.remove(index) : null;
+				assertEquals(expected, tree.removeAt(index), "removeAt fail");
+			} else {
+				final Integer found = tree.binarySearch(item);
+				assertEquals(reference.contains(item) ? item : null, found, "binarySearch fail");
+			}
+			assertEquals(reference.size(), tree.size(), "size fail");
+			if (round % 5000 == 0) {
+				check_against_reference();
+			}
+		}
+		check_against_reference();
+		while (!reference.isEmpty()) {
+			final int index = random.nextInt(reference.size());
+			assertEquals(reference.remove(index), tree.removeAt(index), "random_operations fail");
+		}
+		assertTrue(tree.isEmpty(), "random_operations fail");
+	}
+
+	private void add(final int theItem)
+	{
+		tree.add(theItem);
+		final int index = Collections.binarySearch(reference, theItem);
+		reference.add(index < 0 ? -index - 1 : index, theItem);
+	}
+
+	private void check_against_reference()
+	{
+		assertEquals(reference.size(), tree.size(), "size fail");
+		assertEquals(reference.toString(), tree.toString(), "toString fail");
+		assertNull(tree.get(-1), "get out of bounds fail");
+		assertNull(tree.get(reference.size()), "get out of bounds fail");
+		for (int i = 0; i < reference.size(); i++) {
+			assertEquals(reference.get(i), tree.get(i), "get fail at " + i);
+		}
+		for (int i = 0; i < 100 && !reference.isEmpty(); i++) {
+			final int item = reference.get(random.nextInt(reference.size()));
+			assertEquals(reference.indexOf(item), tree.lowerBound(item), "lowerBound fail");
+		}
+	}
+}
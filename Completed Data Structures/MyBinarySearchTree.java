@@ -1,7 +1,8 @@
 import java.util.Optional;
 
 /**
- * A data structure used as a naive BinarySearchTree.
+ * A data structure used as a naive BinarySearchTree, or as an AVL tree
+ * that rotates on add and remove to keep its height O(log n).
  * @param <T> The generic type of this data structure.
  * @author Brandon Ragghianti (braggs03)
  * @version Winter 2024
@@ -18,13 +19,25 @@ public class MyBinarySearchTree<T extends Comparable<T>> {
     /** How many comparisons were made during the UniqueWords test. */
     public long comparisons;
 
+    /** If the tree rebalances itself as an AVL tree. */
+    private final boolean myBalanced;
 
-    /** Constructor used to instantiate a new MyBinarySearchTree. */
+
+    /** Constructor used to instantiate a new naive MyBinarySearchTree. */
     public MyBinarySearchTree() {
+        this(false);
+    }
+
+    /**
+     * Constructor used to instantiate a new MyBinarySearchTree.
+     * @param theBalanced if the tree should rebalance itself as an AVL tree.
+     */
+    public MyBinarySearchTree(final boolean theBalanced) {
         super();
         root = null;
         mySize = 0;
         comparisons = 0;
+        myBalanced = theBalanced;
     }
 
     /** Adds the given item to it's correct position. */
@@ -44,8 +57,7 @@ public class MyBinarySearchTree<T extends Comparable<T>> {
             theSubtree.myRight = add(theItem, theSubtree.myRight);
             result = theSubtree;
         }
-        updateHeight(result);
-        return result;
+        return balance(result);
     }
 
     /** Removes the given item if found. */
@@ -64,9 +76,8 @@ public class MyBinarySearchTree<T extends Comparable<T>> {
             } else if (theSubtree.myLeft == null && theSubtree.myRight != null) {
                 result = theSubtree.myRight;
             } else if (theSubtree.myRight != null) {
-                final Node rightMinimum = findRightMin(theSubtree.myRight);
-                remove(rightMinimum.myItem, theSubtree);
-                theSubtree.myItem = rightMinimum.myItem;
+                theSubtree.myItem = findRightMin(theSubtree.myRight).myItem;
+                theSubtree.myRight = remove(theSubtree.myItem, theSubtree.myRight);
                 result = theSubtree;
             }
         } else if (theSubtree.myItem.compareTo(theItem) < 0) {
@@ -76,8 +87,7 @@ public class MyBinarySearchTree<T extends Comparable<T>> {
             theSubtree.myLeft = remove(theItem, theSubtree.myLeft);
             result = theSubtree;
         }
-        updateHeight(theSubtree);
-        return result;
+        return result == null ? null : balance(result);
     }
 
     private Node findRightMin(final Node theSubtree) {
@@ -108,6 +118,53 @@ public class MyBinarySearchTree<T extends Comparable<T>> {
         return result;
     }
 
+    /**
+     * Updates the height of theNode and, in AVL mode, rotates it if one
+     * subtree has grown two taller than the other.
+     * @return the root of the subtree after any rotation.
+     */
+    private Node balance(final Node theNode) {
+        Node result = theNode;
+        updateHeight(theNode);
+        if (myBalanced) {
+            final int balance = height(theNode.myLeft) - height(theNode.myRight);
+            if (balance > 1) {
+                if (height(theNode.myLeft.myLeft) < height(theNode.myLeft.myRight)) {
+                    theNode.myLeft = rotateLeft(theNode.myLeft);
+                }
+                result = rotateRight(theNode);
+            } else if (balance < -1) {
+                if (height(theNode.myRight.myRight) < height(theNode.myRight.myLeft)) {
+                    theNode.myRight = rotateRight(theNode.myRight);
+                }
+                result = rotateLeft(theNode);
+            }
+        }
+        return result;
+    }
+
+    private Node rotateLeft(final Node theNode) {
+        final Node result = theNode.myRight;
+        theNode.myRight = result.myLeft;
+        result.myLeft = theNode;
+        updateHeight(theNode);
+        updateHeight(result);
+        return result;
+    }
+
+    private Node rotateRight(final Node theNode) {
+        final Node result = theNode.myLeft;
+        theNode.myLeft = result.myRight;
+        result.myRight = theNode;
+        updateHeight(theNode);
+        updateHeight(result);
+        return result;
+    }
+
+    private int height(final Node theNode) {
+        return theNode == null ? -1 : theNode.height;
+    }
+
     private void updateHeight(final Node theNode) {
         if (theNode.myLeft == null && theNode.myRight == null) {
             theNode.height = 0;
@@ -0,0 +1,154 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyBinarySearchTreeTest
+{
+	private MyBinarySearchTree<Integer> tree;
+	private MyBinarySearchTree<Integer> avl;
+	private Random random;
+
+	@BeforeEach
+	public final void setup()
+	{
+		tree = new MyBinarySearchTree<>();
+		avl = new MyBinarySearchTree<>(true);
+		random = new Random(342);
+	}
+
+	@Test
+	public final void naive_heights_unchanged()
+	{
+		for (int i = 0; i < 10; i++) {
+			tree.add(i);
+		}
+		assertEquals(9, tree.height(), "naive ascending height fail");
+		tree = new MyBinarySearchTree<>();
+		for (int i = 9; i >= 0; i--) {
+			tree.add(i);
+		}
+		assertEquals(9, tree.height(), "naive descending height fail");
+		tree = new MyBinarySearchTree<>();
+		insert_ten_items_ran(tree);
+		assertEquals(3, tree.height(), "naive random height fail");
+		assertEquals("[0:H0, 1:H1, 2:H0, 3:H2, 4:H0, 5:H3, 6:H0, 7:H2, 8:H1, 9:H0]",
+				tree.toString(), "naive insert fail");
+		tree.remove(5);
+		assertEquals("[0:H0, 1:H1, 2:H0, 3:H2, 4:H0, 6:H3, 7:H2, 8:H1, 9:H0]",
+				tree.toString(), "naive two child remove fail");
+		tree.remove(3);
+		assertEquals("[0:H0, 1:H1, 2:H0, 4:H2, 6:H3, 7:H2, 8:H1, 9:H0]",
+				tree.toString(), "naive two child remove fail");
+		assertEquals(8, tree.size(), "naive remove fail");
+	}
+
+	@Test
+	public final void avl_small()
+	{
+		avl.add(0);
+		avl.add(1);
+		avl.add(2);
+		assertEquals("[0:H0, 1:H1, 2:H0]", avl.toString(), "avl_small fail");
+		avl.add(3);
+		avl.add(4);
+		assertEquals("[0:H0, 1:H2, 2:H0, 3:H1, 4:H0]", avl.toString(), "avl_small fail");
+		avl.remove(0);
+		assertEquals("[1:H1, 2:H0, 3:H2, 4:H0]", avl.toString(), "avl_small fail");
+		avl.remove(3);
+		assertEquals(3, avl.size(), "avl_small fail");
+		assertEquals(1, avl.height(), "avl_small fail");
+	}
+
+	@Test
+	public final void avl_sorted_input_height()
+	{
+		for (final int size : new int[] {10, 1000, 100000}) {
+			final MyBinarySearchTree<Integer> ascending = new MyBinarySearchTree<>(true);
+			final MyBinarySearchTree<Integer> descending = new MyBinarySearchTree<>(true);
+			for (int i = 0; i < size; i++) {
+				ascending.add(i);
+				descending.add(size - i);
+			}
+			assertTrue(ascending.height() <= bound(size), "ascending height " + ascending.height());
+			assertTrue(descending.height() <= bound(size), "descending height " + descending.height());
+			for (int i = 0; i < size; i += 97) {
+				assertEquals(Integer.valueOf(i), ascending.find(i), "avl find fail");
+			}
+			for (int i = 0; i < size; i += 2) {
+				ascending.remove(i);
+			}
+			assertEquals(size / 2, ascending.size(), "avl remove fail");
+			assertTrue(ascending.height() <= bound(ascending.size()),
+					"height after remove " + ascending.height());
+			assertNull(ascending.find(0), "avl remove fail");
+			assertEquals(Integer.valueOf(1), ascending.find(1), "avl remove fail");
+		}
+	}
+
+	@Test
+	public final void avl_mixed_with_duplicates()
+	{
+		mixed_with_duplicates(avl, true);
+	}
+
+	@Test
+	public final void naive_mixed_with_duplicates()
+	{
+		mixed_with_duplicates(tree, false);
+	}
+
+	private void mixed_with_duplicates(final MyBinarySearchTree<Integer> theTree,
+			final boolean theBalanced)
+	{
+		final List<Integer> reference = new ArrayList<>();
+		for (int round = 0; round < 40000; round++) {
+			final int item = random.nextInt(round < 20000 ? round + 1 : 3000);
+			if (random.nextInt(3) > 0) {
+				theTree.add(item);
+				final int index = Collections.binarySearch(reference, item);
+				reference.add(index < 0 ? -index - 1 : index, item);
+			} else {
+				theTree.remove(item);
+				reference.remove(Integer.valueOf(item));
+			}
+			assertEquals(reference.size(), theTree.size(), "size fail");
+			final Integer probe = random.nextInt(3000);
+			assertEquals(reference.contains(probe) ? probe : null, theTree.find(probe), "find fail");
+			if (round % 1000 == 0) {
+				assertEquals(reference.toString(), theTree.toString().replaceAll(":H\\d+", ""),
+						"order fail");
+				if (theBalanced) {
+					assertTrue(theTree.height() <= bound(theTree.size()),
+							"height " + theTree.height() + " for " + theTree.size());
+				}
+			}
+		}
+		while (!reference.isEmpty()) {
+			final Integer item = reference.remove(random.nextInt(reference.size()));
+			theTree.remove(item);
+			assertEquals(reference.size(), theTree.size(), "drain fail");
+		}
+		assertEquals("[]", theTree.toString(), "drain fail");
+		assertEquals(-1, theTree.height(), "drain fail");
+	}
+
+	/** The most height allowed for an AVL tree of theSize items. */
+	private static double bound(final int theSize)
+	{
+		return theSize < 2 ? 1 : 1.44 * Math.log(theSize) / Math.log(2);
+	}
+
+	private static void insert_ten_items_ran(final MyBinarySearchTree<Integer> theTree)
+	{
+		final int[] array = {5, 3, 7, 1, 4, 6, 8, 2, 0, 9};
+		for (final int item : array) {
+			theTree.add(item);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/**
+ * A data structure used as a dynamically sized array of bytes.
+ * Mirrors MyArrayList but stores its elements unboxed.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyByteArrayList {
+
+    /** The default size the array will be instantiated to. */
+    private static final int DEFAULT_SIZE = 16;
+
+    /** The array used to store the elements. */
+    private byte[] myArray;
+
+    /** The max capacity for the list. */
+    private int myCapacity;
+
+    /** How many elements are stored in the list. */
+    private int mySize;
+
+    /** Constructor used to instantiate a new MyByteArrayList. */
+    public MyByteArrayList() {
+        super();
+        myArray = new byte[DEFAULT_SIZE];
+        myCapacity = DEFAULT_SIZE;
+        mySize = 0;
+    }
+
+    /**
+     * Inserts an item at the given index.
+     * @param theItem  the item being inserted to the list.
+     * @param theIndex the index the item is being inserted at.
+     */
+    public void insert(final byte theItem, final int theIndex) {
+        if (theIndex < mySize + 1 && theIndex > -1) {
+            if (mySize == myCapacity) {
+                resize();
+            }
+            System.arraycopy(myArray, theIndex, myArray, theIndex + 1, mySize - theIndex);
+            myArray[theIndex] = theItem;
+            mySize++;
+        }
+    }
+
+    /** Doubles the size of the array. */
+    private void resize() {
+        myCapacity <<= 1;
+        final byte[] temp = new byte[myCapacity];
+        System.arraycopy(myArray, 0, temp, 0, mySize);
+        myArray = temp;
+    }
+
+    /** Sorts the MyByteArrayList using MergeSort. */
+    public void sort() {
+        if (mySize > 1) {
+            mergeSort(new byte[mySize], 0, mySize - 1);
+        }
+    }
+
+    private void mergeSort(final byte[] theBuffer, final int theStart, final int theEnd) {
+        if (theStart < theEnd) {
+            final int mid = ((theStart + theEnd) / 2) + 1;
+            mergeSort(theBuffer, theStart, mid - 1);
+            mergeSort(theBuffer, mid, theEnd);
+            merge(theBuffer, theStart, mid, theEnd);
+        }
+    }
+
+    private void merge(final byte[] theBuffer, final int theStart,
+                       final int theMiddle, final int theEnd) {
+        int i = theStart;
+        int j = theMiddle;
+        int k = theStart;
+        while (i < theMiddle && j < theEnd + 1) {
+            theBuffer[k++] = myArray[i] <= myArray[j] ? myArray[i++] : myArray[j++];
+        }
+        while (i < theMiddle) {
+            theBuffer[k++] = myArray[i++];
+        }
+        while (j < theEnd + 1) {
+            theBuffer[k++] = myArray[j++];
+        }
+        System.arraycopy(theBuffer, theStart, myArray, theStart, k - theStart);
+    }
+
+    /**
+     * Removes the item at the given index.
+     * @param theIndex the index of the item being removed.
+     * @return the item that was removed.
+     * @throws IndexOutOfBoundsException if there is no such index.
+     */
+    public byte remove(final int theIndex) {
+        checkIndex(theIndex);
+        final byte item = myArray[theIndex];
+        System.arraycopy(myArray, theIndex + 1, myArray, theIndex, mySize - theIndex - 1);
+        mySize--;
+        return item;
+    }
+
+    /**
+     * If the given item is in the list.
+     * @param theItem element whose presence in this list is to be tested.
+     * @return true if this list contains the specified element.
+     */
+    public boolean contains(final byte theItem) {
+        return indexOf(theItem) != -1;
+    }
+
+    /**
+     * Finds index of given item or -1 if there is no such index.
+     * @param theItem the item to search for.
+     * @return the index of the item.
+     */
+    public int indexOf(final byte theItem) {
+        int result = -1;
+        for (int i = 0; i < mySize; i++) {
+            if (myArray[i] == theItem) {
+                result = i;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the item for the given index.
+     * @param theIndex the index of the item to be retrieved.
+     * @return The item at the index.
+     * @throws IndexOutOfBoundsException if there is no such index.
+     */
+    public byte get(final int theIndex) {
+        checkIndex(theIndex);
+        return myArray[theIndex];
+    }
+
+    /**
+     * Updates the elements at the given index or if out bounds does nothing.
+     * @param theIndex The index for the given item to be set.
+     * @param theItem The item to be set of the given index.
+     */
+    public void set(final int theIndex, final byte theItem) {
+        if (mySize > theIndex && theIndex > -1) {
+            myArray[theIndex] = theItem;
+        }
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return The size of the list.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Returns if the list is empty.
+     * @return returns if the list is empty.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /*
+     * A primitive has no null to hand back, so get and remove
+     * throw where MyArrayList would return null.
+     */
+    private void checkIndex(final int theIndex) {
+        if (theIndex >= mySize || theIndex < 0) {
+            throw new IndexOutOfBoundsException("Index: " + theIndex + ", Size: " + mySize);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (isEmpty()) {
+            builder.append(']');
+        } else {
+            for (int i = 0; i < mySize - 1; i++) {
+                builder.append(myArray[i]).append(", ");
+            }
+            builder.append(myArray[mySize - 1]).append(']');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,143 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A lock-free, unbounded queue based on the Michael-Scott algorithm.
+ * Any number of threads may offer and poll at once. Nodes hold an item
+ * and a link to the next Node, the same layout MyLinkedList uses.
+ * @param <T> The generic type of this data structure.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyConcurrentLinkedQueue<T extends Comparable<T>> {
+
+    /** Atomic access to Node.myNext. */
+    private static final VarHandle NEXT;
+
+    /** Atomic access to myHead. */
+    private static final VarHandle HEAD;
+
+    /** Atomic access to myTail. */
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(Node.class, "myNext", Node.class);
+            HEAD = lookup.findVarHandle(MyConcurrentLinkedQueue.class, "myHead", Node.class);
+            TAIL = lookup.findVarHandle(MyConcurrentLinkedQueue.class, "myTail", Node.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** A dummy Node whose successor holds the first item. */
+    private volatile Node<T> myHead;
+
+    /** The last Node, or a Node close to it while another thread is appending. */
+    private volatile Node<T> myTail;
+
+    /** Constructor used to instantiate a new MyConcurrentLinkedQueue. */
+    public MyConcurrentLinkedQueue() {
+        super();
+        final Node<T> dummy = new Node<>(null);
+        myHead = dummy;
+        myTail = dummy;
+    }
+
+    /**
+     * Adds the item to the back of the queue.
+     * @param theItem the item being added, must not be null.
+     */
+    public void offer(final T theItem) {
+        if (theItem == null) {
+            throw new NullPointerException();
+        }
+        final Node<T> node = new Node<>(theItem);
+        while (true) {
+            final Node<T> tail = myTail;
+            final Node<T> next = tail.myNext;
+            if (tail == myTail) {
+                if (next == null) {
+                    if (NEXT.compareAndSet(tail, null, node)) {
+                        TAIL.compareAndSet(this, tail, node);
+                        return;
+                    }
+                } else {
+                    TAIL.compareAndSet(this, tail, next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the item at the front of the queue.
+     * @return the item at the front, or null if the queue is empty.
+     */
+    public T poll() {
+        while (true) {
+            final Node<T> head = myHead;
+            final Node<T> tail = myTail;
+            final Node<T> next = head.myNext;
+            if (head == myHead) {
+                if (next == null) {
+                    return null;
+                }
+                if (head == tail) {
+                    TAIL.compareAndSet(this, tail, next);
+                } else if (HEAD.compareAndSet(this, head, next)) {
+                    final T item = next.myItem;
+                    next.myItem = null;
+                    return item;
+                }
+            }
+        }
+    }
+
+    /**
+     * Polls every item currently in the queue into theTarget, in order.
+     * @param theTarget the list the items are added to the end of.
+     * @return how many items were moved.
+     */
+    public int drainTo(final MyLinkedList<T> theTarget) {
+        return drainTo(theTarget, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Polls at most theMaxItems items from the queue into theTarget, in order.
+     * @param theTarget   the list the items are added to the end of.
+     * @param theMaxItems the most items to move.
+     * @return how many items were moved.
+     */
+    public int drainTo(final MyLinkedList<T> theTarget, final int theMaxItems) {
+        int count = 0;
+        T item;
+        while (count < theMaxItems && (item = poll()) != null) {
+            theTarget.addLast(item);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns if the queue was empty at the moment it was checked.
+     * @return if the queue is empty.
+     */
+    public boolean isEmpty() {
+        return myHead.myNext == null;
+    }
+
+    private static final class Node<T> {
+
+        /** The item stored in this Node, null once it has been polled. */
+        private volatile T myItem;
+
+        /** The Node after this Node. */
+        private volatile Node<T> myNext;
+
+        private Node(final T theItem) {
+            super();
+            myItem = theItem;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyConcurrentLinkedQueueTest
+{
+	private static final int PRODUCERS = 4;
+	private static final int CONSUMERS = 4;
+	private static final int ITEMS_PER_PRODUCER = 100000;
+
+	private MyConcurrentLinkedQueue<Integer> queue;
+
+	@BeforeEach
+	public final void setup()
+	{
+		queue = new MyConcurrentLinkedQueue<>();
+	}
+
+	@Test
+	public final void offer_poll()
+	{
+		assertTrue(queue.isEmpty(), "offer_poll fail");
+		assertNull(queue.poll(), "offer_poll fail");
+		for (int i = 0; i < 10; i++) {
+			queue.offer(i);
+		}
+		assertFalse(queue.isEmpty(), "offer_poll fail");
+		for (int i = 0; i < 10; i++) {
+			assertEquals(Integer.valueOf(i), queue.poll(), "offer_poll fail");
+		}
+		assertNull(queue.poll(), "offer_poll fail");
+		assertTrue(queue.isEmpty(), "offer_poll fail");
+	}
+
+	@Test
+	public final void drain_to()
+	{
+		for (int i = 0; i < 10; i++) {
+			queue.offer(i);
+		}
+		final MyLinkedList<Integer> target = new MyLinkedList<>();
+		assertEquals(4, queue.drainTo(target, 4), "drain_to fail");
+		assertEquals("[0, 1, 2, 3]", target.toString(), "drain_to fail");
+		assertEquals(6, queue.drainTo(target), "drain_to fail");
+		assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", target.toString(), "drain_to fail");
+		assertEquals(0, queue.drainTo(target), "drain_to fail");
+		assertTrue(queue.isEmpty(), "drain_to fail");
+	}
+
+	@Test
+	public final void many_producers_many_consumers() throws Exception
+	{
+		final int total = PRODUCERS * ITEMS_PER_PRODUCER;
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicInteger polled = new AtomicInteger();
+		final List<Thread> threads = new ArrayList<>();
+		final List<List<Integer>> received = new ArrayList<>();
+		for (int p = 0; p < PRODUCERS; p++) {
+			final int producer = p;
+			threads.add(new Thread(() -> {
+				await(start);
+				for (int i = 0; i < ITEMS_PER_PRODUCER; i++) {
+					queue.offer(producer * ITEMS_PER_PRODUCER + i);
+				}
+			}));
+		}
+		for (int c = 0; c < CONSUMERS; c++) {
+			final List<Integer> items = new ArrayList<>();
+			received.add(items);
+			threads.add(new Thread(() -> {
+				await(start);
+				while (polled.get() < total) {
+					final Integer item = queue.poll();
+					if (item != null) {
+						items.add(item);
+						polled.incrementAndGet();
+					}
+				}
+			}));
+		}
+		for (final Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		for (final Thread thread : threads) {
+			thread.join(60000);
+			assertFalse(thread.isAlive(), "many_producers_many_consumers timed out");
+		}
+
+		final boolean[] seen = new boolean[total];
+		for (final List<Integer> items : received) {
+			final int[] last = new int[PRODUCERS];
+			Arrays.fill(last, -1);
+			for (final int item : items) {
+				assertFalse(seen[item], "duplicate item " + item);
+				seen[item] = true;
+				final int producer = item / ITEMS_PER_PRODUCER;
+				final int sequence = item % ITEMS_PER_PRODUCER;
+				assertTrue(sequence > last[producer], "producer order broken at " + item);
+				last[producer] = sequence;
+			}
+		}
+		for (int i = 0; i < total; i++) {
+			assertTrue(seen[i], "lost item " + i);
+		}
+		assertNull(queue.poll(), "many_producers_many_consumers fail");
+		assertTrue(queue.isEmpty(), "many_producers_many_consumers fail");
+	}
+
+	private static void await(final CountDownLatch theLatch)
+	{
+		try {
+			theLatch.await();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
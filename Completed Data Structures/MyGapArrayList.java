@@ -0,0 +1,218 @@
+import java.util.Arrays;
+
+/**
+ * A data structure used as a dynamically sized array that keeps its free
+ * space as a gap at the last edited index. Moving the gap only shifts the
+ * items between the old and new edit point, so clustered insertions and
+ * removals cost amortized O(1) instead of shifting the whole tail.
+ * @param <T> The generic type of this data structure.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyGapArrayList<T extends Comparable<T>> {
+
+    /** The default size the array will be instantiated to. */
+    private static final int DEFAULT_SIZE = 16;
+
+    /** Decides how much the array grows when it runs out of room. */
+    private final GrowthPolicy myGrowthPolicy;
+
+    /** The array used to store the elements, with the gap in the middle. */
+    private T[] myArray;
+
+    /** The index of the first free slot of the gap. */
+    private int myGapStart;
+
+    /** The index after the last free slot of the gap. */
+    private int myGapEnd;
+
+    /** How many elements are stored in the list. */
+    private int mySize;
+
+    /** Constructor used to instantiate a new MyGapArrayList. */
+    public MyGapArrayList() {
+        this(DEFAULT_SIZE, GrowthPolicy.DOUBLE);
+    }
+
+    /**
+     * Constructor used to instantiate a new MyGapArrayList with the given
+     * starting capacity and growth policy.
+     * @param theCapacity     the number of items the list can hold before it first grows.
+     * @param theGrowthPolicy decides how much the array grows when it runs out of room.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MyGapArrayList(final int theCapacity, final GrowthPolicy theGrowthPolicy) {
+        super();
+        if (theCapacity < 0 || theGrowthPolicy == null) {
+            throw new IllegalArgumentException();
+        }
+        myGrowthPolicy = theGrowthPolicy;
+        myArray = (T[]) new Comparable[theCapacity];
+        myGapStart = 0;
+        myGapEnd = theCapacity;
+        mySize = 0;
+    }
+
+    /**
+     * Inserts an item at the given index.
+     * @param theItem  the item being inserted to the list.
+     * @param theIndex the index the item is being inserted at.
+     */
+    public void insert(final T theItem, final int theIndex) {
+        if (theIndex < mySize + 1 && theIndex > -1) {
+            if (myGapStart == myGapEnd) {
+                resize();
+            }
+            moveGap(theIndex);
+            myArray[myGapStart++] = theItem;
+            mySize++;
+        }
+    }
+
+    /**
+     * Grows the array by the growth policy, keeping the gap where it was.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void resize() {
+        final int capacity = myGrowthPolicy.nextCapacity(myArray.length, mySize + 1);
+        final T[] temp = (T[]) new Comparable[capacity];
+        final int tailLength = myArray.length - myGapEnd;
+        System.arraycopy(myArray, 0, temp, 0, myGapStart);
+        System.arraycopy(myArray, myGapEnd, temp, capacity - tailLength, tailLength);
+        myGapEnd = capacity - tailLength;
+        myArray = temp;
+    }
+
+    /**
+     * Moves the gap so it starts at theIndex, shifting only the
+     * items between the old and the new position.
+     * @param theIndex the index the gap will start at.
+     */
+    private void moveGap(final int theIndex) {
+        if (theIndex < myGapStart) {
+            final int count = myGapStart - theIndex;
+            System.arraycopy(myArray, theIndex, myArray, myGapEnd - count, count);
+            Arrays.fill(myArray, theIndex, Math.min(myGapStart, myGapEnd - count), null);
+            myGapStart -= count;
+            myGapEnd -= count;
+        } else if (theIndex > myGapStart) {
+            final int count = theIndex - myGapStart;
+            System.arraycopy(myArray, myGapEnd, myArray, myGapStart, count);
+            Arrays.fill(myArray, Math.max(myGapEnd, theIndex), myGapEnd + count, null);
+            myGapStart += count;
+            myGapEnd += count;
+        }
+    }
+
+    /** Maps an index of the list to its slot in the array. */
+    private int slot(final int theIndex) {
+        return theIndex < myGapStart ? theIndex : theIndex + myGapEnd - myGapStart;
+    }
+
+    /** Sorts the MyGapArrayList using a stable MergeSort. */
+    public void sort() {
+        moveGap(mySize);
+        Arrays.sort(myArray, 0, mySize);
+    }
+
+    /**
+     * Removes the item at the given index.
+     * @param theIndex the index of the item being removed.
+     * @return the item that was removed, or null if there is no such index.
+     */
+    public T remove(final int theIndex) {
+        T item = null;
+        if (mySize > theIndex && theIndex > -1) {
+            moveGap(theIndex);
+            item = myArray[myGapEnd];
+            myArray[myGapEnd++] = null;
+            mySize--;
+        }
+        return item;
+    }
+
+    /**
+     * If the given item is in the list.
+     * @param theItem element whose presence in this list is to be tested.
+     * @return true if this list contains the specified element.
+     */
+    public boolean contains(final T theItem) {
+        boolean result = false;
+        for (int i = 0; i < mySize; i++) {
+            final T item = myArray[slot(i)];
+            if (theItem == null || item != null && item.compareTo(theItem) == 0) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the first index of given item or -1 if there is no such index.
+     * @param theItem the item to search for.
+     * @return the index of the item.
+     */
+    public int indexOf(final T theItem) {
+        int result = -1;
+        for (int i = 0; i < mySize; i++) {
+            final T item = myArray[slot(i)];
+            if (item != null && item.equals(theItem)) {
+                result = i;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the item for the given index or null if there is no such index.
+     * @param theIndex the index of the item to be retrieved.
+     * @return The at the index or null if no such index.
+     */
+    public T get(final int theIndex) {
+        return mySize > theIndex && theIndex > -1 ? myArray[slot(theIndex)] : null;
+    }
+
+    /**
+     * Updates the elements at the given index or if out bounds does nothing.
+     * @param theIndex The index for the given item to be set.
+     * @param theItem The item to be set of the given index.
+     */
+    public void set(final int theIndex, final T theItem) {
+        if (mySize > theIndex && theIndex > -1) {
+            myArray[slot(theIndex)] = theItem;
+        }
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return The size of the list.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Returns if the list is empty.
+     * @return returns if the list is empty.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (isEmpty()) {
+            builder.append(']');
+        } else {
+            for (int i = 0; i < mySize - 1; i++) {
+                builder.append(myArray[slot(i)]).append(", ");
+            }
+            builder.append(myArray[slot(mySize - 1)]).append(']');
+        }
+        return builder.toString();
+    }
+}
@@ -1,31 +1,139 @@
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * A data structure used as a linked list.
+ * A data structure used as a doubly linked list with a movable cursor.
+ * Sentinel nodes sit before the first and after the last node, so every
+ * edit at the cursor or at either end is O(1). Nodes are grouped into
+ * blocks of about sqrt(size) nodes that record their length, so a node can
+ * be reached by index in O(sqrt(n)) by skipping whole blocks.
  * @param <T> The generic type of this data structure.
  * @author Brandon Ragghianti (braggs03)
  * @version Winter 2024
  */
 public class MyLinkedList<T extends Comparable<T>> {
 
-    /** The starting Node. */
-    private Node<T> myStart;
+    /** The smallest number of nodes a block is allowed to grow to before it splits. */
+    private static final int MIN_BLOCK_SIZE = 16;
 
-    /** The previous node from the current Node. */
-    private Node<T> myPrevious;
+    /** The sentinel Node before the first Node. */
+    private final Node<T> myHead;
 
-    /** The current node on. */
+    /** The sentinel Node after the last Node. */
+    private final Node<T> myTail;
+
+    /** The current node on, myTail once past the end and myHead once before the start. */
     private Node<T> myCurrent;
 
     /** How many elements are stored in the list. */
     private int mySize;
 
+    /** The block holding the first nodes, null if the list is empty. */
+    private Block<T> myFirstBlock;
+
+    /** The block holding the last nodes, null if the list is empty. */
+    private Block<T> myLastBlock;
+
+    /** The most nodes, and separately blocks, kept for reuse; 0 disables pooling. */
+    private final int myPoolCapacity;
+
+    /** Removed nodes kept for reuse, chained through myNext. */
+    private Node<T> myFreeNodes;
+
+    /** How many nodes are in myFreeNodes. */
+    private int myFreeNodeCount;
+
+    /** Emptied blocks kept for reuse, chained through myNext. */
+    private Block<T> myFreeBlocks;
+
+    /** How many blocks are in myFreeBlocks. */
+    private int myFreeBlockCount;
+
+    /** How many times each item is in the list, null unless the hash index is enabled. */
+    private Map<T, Integer> myCounts;
+
+    /** Bumped whenever nodes move to or from another list, which invalidates every Cursor. */
+    private int mySpliceCount;
+
     /** Constructor used to instantiate a new MyLinkedList. */
     public MyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Constructor used to instantiate a new MyLinkedList that recycles removed nodes.
+     * Once thePoolCapacity nodes are waiting for reuse, further removed nodes are dropped.
+     * @param thePoolCapacity the most removed nodes kept for reuse, 0 disables pooling.
+     */
+    public MyLinkedList(final int thePoolCapacity) {
         super();
-        myPrevious = null;
-        myStart = null;
-        myCurrent = null;
+        if (thePoolCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        myPoolCapacity = thePoolCapacity;
+        myHead = new Node<>();
+        myTail = new Node<>();
+        myHead.myNext = myTail;
+        myTail.myPrevious = myHead;
+        myCurrent = myTail;
         mySize = 0;
+        myFirstBlock = null;
+        myLastBlock = null;
+        myCounts = null;
+    }
+
+    /**
+     * Starts keeping a hash index of how many times each item is in the list,
+     * so contains is O(1). The index is kept up to date by every add and remove.
+     * It uses equals and hashCode, which must agree with compareTo.
+     */
+    public void enableHashIndex() {
+        if (myCounts == null) {
+            myCounts = new HashMap<>();
+            for (Node<T> node = myHead.myNext; node != myTail; node = node.myNext) {
+                countAdd(node.myItem);
+            }
+        }
+    }
+
+    /** Stops keeping the hash index and releases it. */
+    public void disableHashIndex() {
+        myCounts = null;
+    }
+
+    /**
+     * Returns if the hash index is enabled.
+     * @return if the hash index is enabled.
+     */
+    public boolean isHashIndexed() {
+        return myCounts != null;
+    }
+
+    /** Removes every element, returning the nodes to the pool if pooling is enabled. */
+    public void clear() {
+        Node<T> node = myHead.myNext;
+        while (node != myTail && myFreeNodeCount < myPoolCapacity) {
+            final Node<T> next = node.myNext;
+            recycle(node);
+            node = next;
+        }
+        Block<T> block = myFirstBlock;
+        while (block != null && myFreeBlockCount < myPoolCapacity) {
+            final Block<T> next = block.myNext;
+            recycle(block);
+            block = next;
+        }
+        myHead.myNext = myTail;
+        myTail.myPrevious = myHead;
+        myCurrent = myTail;
+        mySize = 0;
+        myFirstBlock = null;
+        myLastBlock = null;
+        if (myCounts != null) {
+            myCounts.clear();
+        }
     }
 
     /**
@@ -33,26 +141,7 @@ public class MyLinkedList<T extends Comparable<T>> {
      * @param theItem the item being added before the current node.
      */
     public void addBefore(final T theItem) {
-        final Node<T> temp = new Node<>();
-        temp.myItem = theItem;
-        if (myCurrent == null) {
-            if (myPrevious == null) {
-                myStart = temp;
-            } else {
-                myPrevious.myNext = temp;
-            }
-            myPrevious = temp;
-        } else {
-            if (myCurrent == myStart) {
-                temp.myNext = myStart;
-                myStart = temp;
-            } else {
-                myPrevious.myNext = temp;
-                temp.myNext = myCurrent;
-                myPrevious = temp;
-            }
-        }
-        mySize++;
+        linkBefore(myCurrent == myHead ? myHead.myNext : myCurrent, theItem);
     }
 
     /**
@@ -60,64 +149,273 @@ public class MyLinkedList<T extends Comparable<T>> {
      * @param theItem The element being added after the current Node.
      */
     public void addAfter(final T theItem) {
-        if (myCurrent != null) {
-            final Node<T> temp = new Node<>();
-            temp.myItem = theItem;
-            temp.myNext = myCurrent.myNext;
-            myCurrent.myNext = temp;
-            mySize++;
+        if (myCurrent != myTail) {
+            linkBefore(myCurrent.myNext, theItem);
         }
     }
 
+    /**
+     * Adds the element to the start of the list.
+     * @param theItem The element being added.
+     */
+    public void addFirst(final T theItem) {
+        linkBefore(myHead.myNext, theItem);
+    }
+
+    /**
+     * Adds the element to the end of the list.
+     * @param theItem The element being added.
+     */
+    public void addLast(final T theItem) {
+        linkBefore(myTail, theItem);
+    }
+
     /** Removes the current node. */
     public T remove() {
         T result = null;
-        if (myCurrent != null) {
+        if (myCurrent != myHead && myCurrent != myTail) {
             result = myCurrent.myItem;
-            if (myCurrent == myStart) {
-                myStart = myCurrent.myNext;
-                myCurrent = myStart;
-            } else {
-                myPrevious.myNext = myCurrent.myNext;
-                myCurrent = myPrevious.myNext;
+            final Node<T> next = myCurrent.myNext;
+            unlink(myCurrent);
+            myCurrent = next;
+        }
+        return result;
+    }
+
+    /**
+     * Removes the first node. If the cursor was on it, it moves to the new first node.
+     * @return The item that was removed, or null if the list is empty.
+     */
+    public T removeFirst() {
+        T result = null;
+        if (mySize > 0) {
+            final Node<T> first = myHead.myNext;
+            result = first.myItem;
+            if (myCurrent == first) {
+                myCurrent = first.myNext;
             }
-            mySize--;
+            unlink(first);
         }
         return result;
     }
 
     /**
-     * If the given item is in the list.
+     * Removes the last node. If the cursor was on it, it moves past the end.
+     * @return The item that was removed, or null if the list is empty.
+     */
+    public T removeLast() {
+        T result = null;
+        if (mySize > 0) {
+            final Node<T> last = myTail.myPrevious;
+            result = last.myItem;
+            if (myCurrent == last) {
+                myCurrent = myTail;
+            }
+            unlink(last);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the item for the given index or null if there is no such index.
+     * @param theIndex the index of the item to be retrieved.
+     * @return The item at the index or null if no such index.
+     */
+    public T get(final int theIndex) {
+        return mySize > theIndex && theIndex > -1 ? nodeAt(theIndex).myItem : null;
+    }
+
+    /**
+     * Moves the cursor to the given index and returns its item. Seeking to
+     * size moves the cursor past the end, any other out of bounds index does nothing.
+     * @param theIndex the index the cursor is being moved to.
+     * @return The item at the index or null if no such index.
+     */
+    public T seek(final int theIndex) {
+        T result = null;
+        if (theIndex == mySize) {
+            myCurrent = myTail;
+        } else if (mySize > theIndex && theIndex > -1) {
+            myCurrent = nodeAt(theIndex);
+            result = myCurrent.myItem;
+        }
+        return result;
+    }
+
+    /**
+     * Removes the node at the given index. If the cursor was on it, it moves to the next node.
+     * @param theIndex the index of the item being removed.
+     * @return The item that was removed, or null if no such index.
+     */
+    public T removeAt(final int theIndex) {
+        T result = null;
+        if (mySize > theIndex && theIndex > -1) {
+            final Node<T> node = nodeAt(theIndex);
+            result = node.myItem;
+            if (myCurrent == node) {
+                myCurrent = node.myNext;
+            }
+            unlink(node);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the node at a valid index, skipping whole blocks from whichever end is closer.
+     * @param theIndex the index of the node, between 0 and size - 1.
+     * @return The node at the index.
+     */
+    private Node<T> nodeAt(final int theIndex) {
+        Node<T> result;
+        if (theIndex < mySize / 2) {
+            Block<T> block = myFirstBlock;
+            int start = 0;
+            while (start + block.myCount <= theIndex) {
+                start += block.myCount;
+                block = block.myNext;
+            }
+            result = block.myFirst;
+            for (int i = start; i < theIndex; i++) {
+                result = result.myNext;
+            }
+        } else {
+            Block<T> block = myLastBlock;
+            int start = mySize - block.myCount;
+            while (start > theIndex) {
+                block = block.myPrevious;
+                start -= block.myCount;
+            }
+            result = block.myFirst;
+            for (int i = start; i < theIndex; i++) {
+                result = result.myNext;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * If the given item is in the list. O(1) if the hash index is enabled.
      * @param theItem element whose presence in this list is to be tested.
      * @return true if this list contains the specified element.
      */
     public boolean contains(final T theItem) {
         boolean result = false;
-        Node<T> current = myStart;
-        while (current != null) {
-            if (current.myItem.compareTo(theItem) == 0) {
-                result = true;
-                break;
+        if (myCounts != null) {
+            result = myCounts.containsKey(theItem);
+        } else {
+            Node<T> current = myHead.myNext;
+            while (current != myTail) {
+                if (current.myItem.compareTo(theItem) == 0) {
+                    result = true;
+                    break;
+                }
+                current = current.myNext;
             }
-            current = current.myNext;
         }
         return result;
     }
 
     /** Sort the MyLinkedList. */
     public void sort() {
-        Node<T> current = myStart;
-        for (int i = 0; i < mySize; i++) {
-            Node<T> currentNext = current.myNext;
-            while (currentNext != null) {
-                if (current.myItem.compareTo(currentNext.myItem) >= 0) {
-                    final T temp = current.myItem;
-                    current.myItem = currentNext.myItem;
-                    currentNext.myItem = temp;
+        sort(Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the MyLinkedList with a stable, bottom up MergeSort that relinks
+     * the existing nodes instead of allocating. The cursor stays on the same item.
+     * If theComparator throws, the list is left in its original order.
+     * @param theComparator the comparator used to order the items.
+     */
+    public void sort(final Comparator<? super T> theComparator) {
+        if (mySize > 1) {
+            myTail.myPrevious.myNext = null;
+            Node<T> list = myHead.myNext;
+            int runLength = 1;
+            int merges;
+            boolean merged = false;
+            try {
+                do {
+                    Node<T> left = list;
+                    Node<T> last = null;
+                    list = null;
+                    merges = 0;
+                    while (left != null) {
+                        merges++;
+                        Node<T> right = left;
+                        int leftSize = 0;
+                        while (leftSize < runLength && right != null) {
+                            leftSize++;
+                            right = right.myNext;
+                        }
+                        int rightSize = runLength;
+                        while (leftSize > 0 || rightSize > 0 && right != null) {
+                            final Node<T> next;
+                            if (leftSize > 0 && (rightSize == 0 || right == null
+                                || theComparator.compare(left.myItem, right.myItem) <= 0)) {
+                                next = left;
+                                left = left.myNext;
+                                leftSize--;
+                            } else {
+                                next = right;
+                                right = right.myNext;
+                                rightSize--;
+                            }
+                            if (last == null) {
+                                list = next;
+                            } else {
+                                last.myNext = next;
+                            }
+                            last = next;
+                        }
+                        left = right;
+                    }
+                    last.myNext = null;
+                    runLength <<= 1;
+                } while (merges > 1);
+                merged = true;
+            } finally {
+                if (!merged) {
+                    restoreForwardLinks();
                 }
-                currentNext = currentNext.myNext;
             }
-            current = current.myNext;
+            relink(list);
+        }
+    }
+
+    /**
+     * Puts the nodes back in their original order after a sort was interrupted,
+     * by rebuilding every forward link from the backward links the merges never touch.
+     */
+    private void restoreForwardLinks() {
+        for (Node<T> node = myTail; node != myHead; node = node.myPrevious) {
+            node.myPrevious.myNext = node;
+        }
+    }
+
+    /**
+     * Restores the backward links, the sentinels and the blocks after the
+     * nodes starting at theList were reordered through their forward links.
+     * Blocks keep their lengths and are handed the nodes in their new order.
+     * @param theList the first node of a null terminated chain of every node.
+     */
+    private void relink(final Node<T> theList) {
+        Node<T> previous = myHead;
+        Node<T> node = theList;
+        while (node != null) {
+            node.myPrevious = previous;
+            previous.myNext = node;
+            previous = node;
+            node = node.myNext;
+        }
+        previous.myNext = myTail;
+        myTail.myPrevious = previous;
+        node = myHead.myNext;
+        for (Block<T> block = myFirstBlock; block != null; block = block.myNext) {
+            block.myFirst = node;
+            for (int i = 0; i < block.myCount; i++) {
+                node.myBlock = block;
+                node = node.myNext;
+            }
         }
     }
 
@@ -134,18 +432,26 @@ public class MyLinkedList<T extends Comparable<T>> {
      * @return returns if the list is empty.
      */
     public boolean isEmpty() {
-        return myStart == null;
+        return mySize == 0;
     }
 
 
     /**
-     * Returns the node at the start of the list.
-     * @return The node at the start of the list.
+     * Moves the cursor to the start of the list and returns its item.
+     * @return The item at the start of the list.
      */
     public T first() {
-        myPrevious = null;
-        myCurrent = myStart;
-        return myCurrent == null ? null : myCurrent.myItem;
+        myCurrent = myHead.myNext;
+        return myCurrent.myItem;
+    }
+
+    /**
+     * Moves the cursor to the end of the list and returns its item.
+     * @return The item at the end of the list.
+     */
+    public T last() {
+        myCurrent = myTail.myPrevious;
+        return myCurrent.myItem;
     }
 
     /**
@@ -153,7 +459,7 @@ public class MyLinkedList<T extends Comparable<T>> {
      * @return The item at the current node.
      */
     public T current() {
-        return myCurrent == null ? null : myCurrent.myItem;
+        return myCurrent.myItem;
     }
 
     /**
@@ -162,21 +468,396 @@ public class MyLinkedList<T extends Comparable<T>> {
      */
     public T next() {
         T result = null;
-        if (myCurrent != null) {
-            myPrevious = myCurrent;
+        if (myCurrent != myTail) {
             myCurrent = myCurrent.myNext;
-            result = myCurrent == null ? null : myCurrent.myItem;
+            result = myCurrent.myItem;
+        }
+        return result;
+    }
+
+    /**
+     * Moves the cursor back one node and returns its item.
+     * @return The item before the current node.
+     */
+    public T previous() {
+        T result = null;
+        if (myCurrent != myHead) {
+            myCurrent = myCurrent.myPrevious;
+            result = myCurrent.myItem;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new cursor on the first node, independent of the built-in cursor.
+     * @return a new cursor on the first node.
+     */
+    public Cursor cursor() {
+        return new Cursor(myHead.myNext);
+    }
+
+    /**
+     * Moves every node of theOther to the end of this list, leaving theOther empty.
+     * Nodes are relinked rather than copied, so this is O(1).
+     * Every Cursor of either list is invalidated.
+     * @param theOther the list whose nodes are being moved.
+     */
+    public void append(final MyLinkedList<T> theOther) {
+        spliceBefore(myTail, theOther);
+    }
+
+    /**
+     * Moves every node of theOther in before theCursor's node, leaving theOther empty.
+     * Nodes are relinked rather than copied; the only walk is over the block
+     * theCursor is in, so this is O(sqrt(n)). The cursor stays on its node;
+     * every other Cursor of either list is invalidated.
+     * @param theCursor a cursor of this list marking where the nodes are moved to.
+     * @param theOther  the list whose nodes are being moved.
+     */
+    public void spliceBefore(final Cursor theCursor, final MyLinkedList<T> theOther) {
+        checkCursor(theCursor);
+        spliceBefore(theCursor.myNode == myHead ? myHead.myNext : theCursor.myNode, theOther);
+        theCursor.mySpliceCount = mySpliceCount;
+    }
+
+    /**
+     * Moves theCursor's node and every node after it into a new list.
+     * Nodes are relinked rather than copied; the only walks are over the
+     * block theCursor is in and over the moved blocks, so this is O(sqrt(n)).
+     * theCursor, and the built-in cursor if it was on a moved node, are left past the end.
+     * If any nodes moved, every other Cursor of this list is invalidated.
+     * @param theCursor a cursor of this list on the first node being moved.
+     * @return a new list holding the moved nodes, hash indexed if this list is.
+     */
+    public MyLinkedList<T> splitAt(final Cursor theCursor) {
+        checkCursor(theCursor);
+        final MyLinkedList<T> result = new MyLinkedList<>(myPoolCapacity);
+        final Node<T> first = theCursor.myNode == myHead ? myHead.myNext : theCursor.myNode;
+        if (first != myTail) {
+            splitBlockAt(first);
+            final Block<T> firstBlock = first.myBlock;
+            for (Block<T> block = firstBlock; block != null; block = block.myNext) {
+                result.mySize += block.myCount;
+                if (myCurrent.myBlock == block) {
+                    myCurrent = myTail;
+                }
+            }
+            final Node<T> last = myTail.myPrevious;
+            first.myPrevious.myNext = myTail;
+            myTail.myPrevious = first.myPrevious;
+            result.myHead.myNext = first;
+            first.myPrevious = result.myHead;
+            last.myNext = result.myTail;
+            result.myTail.myPrevious = last;
+            result.myFirstBlock = firstBlock;
+            result.myLastBlock = myLastBlock;
+            myLastBlock = firstBlock.myPrevious;
+            if (myLastBlock == null) {
+                myFirstBlock = null;
+            } else {
+                myLastBlock.myNext = null;
+            }
+            firstBlock.myPrevious = null;
+            mySize -= result.mySize;
+            if (myLastBlock != null) {
+                mergeWithNext(myLastBlock.myPrevious);
+            }
+            result.mergeWithNext(firstBlock);
+            if (myCounts != null) {
+                result.enableHashIndex();
+                for (Node<T> node = first; node != result.myTail; node = node.myNext) {
+                    countRemove(node.myItem);
+                }
+            }
+            mySpliceCount++;
+        } else if (myCounts != null) {
+            result.enableHashIndex();
         }
+        theCursor.myNode = myTail;
+        theCursor.mySpliceCount = mySpliceCount;
         return result;
     }
 
+    private void spliceBefore(final Node<T> theNode, final MyLinkedList<T> theOther) {
+        if (theOther == this) {
+            throw new IllegalArgumentException();
+        }
+        if (!theOther.isEmpty()) {
+            if (theNode != myTail) {
+                splitBlockAt(theNode);
+            }
+            final Node<T> first = theOther.myHead.myNext;
+            final Node<T> last = theOther.myTail.myPrevious;
+            final Block<T> otherLast = theOther.myLastBlock;
+            first.myPrevious = theNode.myPrevious;
+            last.myNext = theNode;
+            theNode.myPrevious.myNext = first;
+            theNode.myPrevious = last;
+            final Block<T> before = theNode == myTail ? myLastBlock : theNode.myBlock.myPrevious;
+            final Block<T> after = theNode == myTail ? null : theNode.myBlock;
+            theOther.myFirstBlock.myPrevious = before;
+            theOther.myLastBlock.myNext = after;
+            if (before == null) {
+                myFirstBlock = theOther.myFirstBlock;
+            } else {
+                before.myNext = theOther.myFirstBlock;
+            }
+            if (after == null) {
+                myLastBlock = theOther.myLastBlock;
+            } else {
+                after.myPrevious = theOther.myLastBlock;
+            }
+            mySize += theOther.mySize;
+            mergeWithNext(otherLast);
+            mergeWithNext(before);
+            if (myCounts != null) {
+                for (Node<T> node = first; node != theNode; node = node.myNext) {
+                    countAdd(node.myItem);
+                }
+            }
+            if (theOther.myCounts != null) {
+                theOther.myCounts.clear();
+            }
+            theOther.myHead.myNext = theOther.myTail;
+            theOther.myTail.myPrevious = theOther.myHead;
+            theOther.myCurrent = theOther.myTail;
+            theOther.myFirstBlock = null;
+            theOther.myLastBlock = null;
+            theOther.mySize = 0;
+            theOther.mySpliceCount++;
+            mySpliceCount++;
+        }
+    }
+
+    private void checkCursor(final Cursor theCursor) {
+        if (theCursor.list() != this) {
+            throw new IllegalArgumentException("The cursor belongs to another list");
+        }
+        theCursor.checkValid();
+    }
+
+    private Node<T> linkBefore(final Node<T> theNode, final T theItem) {
+        final Node<T> temp = newNode();
+        temp.myItem = theItem;
+        temp.myPrevious = theNode.myPrevious;
+        temp.myNext = theNode;
+        theNode.myPrevious.myNext = temp;
+        theNode.myPrevious = temp;
+        mySize++;
+        if (myCounts != null) {
+            countAdd(theItem);
+        }
+        final Block<T> block;
+        if (temp.myPrevious != myHead) {
+            block = temp.myPrevious.myBlock;
+        } else if (theNode != myTail) {
+            block = theNode.myBlock;
+            block.myFirst = temp;
+        } else {
+            block = newBlock();
+            block.myFirst = temp;
+            linkBlockAfter(null, block);
+        }
+        temp.myBlock = block;
+        block.myCount++;
+        if (block.myCount > 2 * blockSize()) {
+            split(block);
+        }
+        return temp;
+    }
+
+    private void unlink(final Node<T> theNode) {
+        theNode.myPrevious.myNext = theNode.myNext;
+        theNode.myNext.myPrevious = theNode.myPrevious;
+        mySize--;
+        if (myCounts != null) {
+            countRemove(theNode.myItem);
+        }
+        final Block<T> block = theNode.myBlock;
+        block.myCount--;
+        if (block.myCount == 0) {
+            unlinkBlock(block);
+            recycle(block);
+        } else {
+            if (block.myFirst == theNode) {
+                block.myFirst = theNode.myNext;
+            }
+            if (block.myNext != null && block.myCount + block.myNext.myCount <= blockSize()) {
+                merge(block, block.myNext);
+            } else if (block.myPrevious != null
+                       && block.myPrevious.myCount + block.myCount <= blockSize()) {
+                merge(block.myPrevious, block);
+            }
+        }
+        recycle(theNode);
+    }
+
+    private void countAdd(final T theItem) {
+        myCounts.merge(theItem, 1, Integer::sum);
+    }
+
+    private void countRemove(final T theItem) {
+        myCounts.computeIfPresent(theItem,
+                                  (theKey, theCount) -> theCount == 1 ? null : theCount - 1);
+    }
+
+    /** Returns how many nodes a block should hold for the current size of the list. */
+    private int blockSize() {
+        return Math.max(MIN_BLOCK_SIZE, (int) Math.sqrt(mySize));
+    }
+
+    /** Moves the second half of theBlock into a new block after it. */
+    private void split(final Block<T> theBlock) {
+        final Block<T> temp = newBlock();
+        final int keep = theBlock.myCount / 2;
+        Node<T> node = theBlock.myFirst;
+        for (int i = 0; i < keep; i++) {
+            node = node.myNext;
+        }
+        temp.myFirst = node;
+        temp.myCount = theBlock.myCount - keep;
+        theBlock.myCount = keep;
+        for (int i = 0; i < temp.myCount; i++) {
+            node.myBlock = temp;
+            node = node.myNext;
+        }
+        linkBlockAfter(theBlock, temp);
+    }
+
+    /** Splits theNode's block so that theNode starts a block, unless it already does. */
+    private void splitBlockAt(final Node<T> theNode) {
+        final Block<T> block = theNode.myBlock;
+        if (block.myFirst != theNode) {
+            int keep = 0;
+            Node<T> node = block.myFirst;
+            while (node != theNode) {
+                keep++;
+                node = node.myNext;
+            }
+            final Block<T> temp = newBlock();
+            temp.myFirst = theNode;
+            temp.myCount = block.myCount - keep;
+            block.myCount = keep;
+            for (int i = 0; i < temp.myCount; i++) {
+                node.myBlock = temp;
+                node = node.myNext;
+            }
+            linkBlockAfter(block, temp);
+        }
+    }
+
+    /**
+     * Merges theBlock with the block after it if together they hold no more
+     * than blockSize() nodes, so joins and cuts do not leave small blocks behind.
+     */
+    private void mergeWithNext(final Block<T> theBlock) {
+        if (theBlock != null && theBlock.myNext != null
+            && theBlock.myCount + theBlock.myNext.myCount <= blockSize()) {
+            merge(theBlock, theBlock.myNext);
+        }
+    }
+
+    /** Moves every node of theNext into theBlock, which must come right before it. */
+    private void merge(final Block<T> theBlock, final Block<T> theNext) {
+        Node<T> node = theNext.myFirst;
+        for (int i = 0; i < theNext.myCount; i++) {
+            node.myBlock = theBlock;
+            node = node.myNext;
+        }
+        theBlock.myCount += theNext.myCount;
+        unlinkBlock(theNext);
+        recycle(theNext);
+    }
+
+    /** Links theBlock after thePrevious, or at the start if thePrevious is null. */
+    private void linkBlockAfter(final Block<T> thePrevious, final Block<T> theBlock) {
+        final Block<T> next = thePrevious == null ? myFirstBlock : thePrevious.myNext;
+        theBlock.myPrevious = thePrevious;
+        theBlock.myNext = next;
+        if (thePrevious == null) {
+            myFirstBlock = theBlock;
+        } else {
+            thePrevious.myNext = theBlock;
+        }
+        if (next == null) {
+            myLastBlock = theBlock;
+        } else {
+            next.myPrevious = theBlock;
+        }
+    }
+
+    private void unlinkBlock(final Block<T> theBlock) {
+        if (theBlock.myPrevious == null) {
+            myFirstBlock = theBlock.myNext;
+        } else {
+            theBlock.myPrevious.myNext = theBlock.myNext;
+        }
+        if (theBlock.myNext == null) {
+            myLastBlock = theBlock.myPrevious;
+        } else {
+            theBlock.myNext.myPrevious = theBlock.myPrevious;
+        }
+    }
+
+    /** Takes a node from the pool, or creates one if the pool is empty. */
+    private Node<T> newNode() {
+        Node<T> result = myFreeNodes;
+        if (result == null) {
+            result = new Node<>();
+        } else {
+            myFreeNodes = result.myNext;
+            myFreeNodeCount--;
+        }
+        return result;
+    }
+
+    /** Clears theNode and keeps it for reuse if the pool has room. */
+    private void recycle(final Node<T> theNode) {
+        theNode.myItem = null;
+        theNode.myPrevious = null;
+        theNode.myBlock = null;
+        if (myFreeNodeCount < myPoolCapacity) {
+            theNode.myNext = myFreeNodes;
+            myFreeNodes = theNode;
+            myFreeNodeCount++;
+        } else {
+            theNode.myNext = null;
+        }
+    }
+
+    /** Takes a block from the pool, or creates one if the pool is empty. */
+    private Block<T> newBlock() {
+        Block<T> result = myFreeBlocks;
+        if (result == null) {
+            result = new Block<>();
+        } else {
+            myFreeBlocks = result.myNext;
+            myFreeBlockCount--;
+        }
+        return result;
+    }
+
+    /** Clears theBlock and keeps it for reuse if the pool has room. */
+    private void recycle(final Block<T> theBlock) {
+        theBlock.myFirst = null;
+        theBlock.myCount = 0;
+        theBlock.myPrevious = null;
+        if (myFreeBlockCount < myPoolCapacity) {
+            theBlock.myNext = myFreeBlocks;
+            myFreeBlocks = theBlock;
+            myFreeBlockCount++;
+        } else {
+            theBlock.myNext = null;
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
         builder.append("[");
-        if (myStart != null) {
-            Node<T> current = myStart;
-            while (current.myNext != null) {
+        if (mySize > 0) {
+            Node<T> current = myHead.myNext;
+            while (current.myNext != myTail) {
                 builder.append(current.myItem.toString()).append(", ");
                 current = current.myNext;
             }
@@ -186,6 +867,137 @@ public class MyLinkedList<T extends Comparable<T>> {
         return builder.toString();
     }
 
+    /**
+     * A position in the list that moves independently of the built-in cursor
+     * and of every other Cursor. Any number of cursors may read an unmodified
+     * list at once, including from parallel threads. A cursor stays valid
+     * through its own edits, but not once another cursor removes its node.
+     * Splicing or splitting the list invalidates its other cursors, and using
+     * one afterwards throws a ConcurrentModificationException.
+     */
+    public final class Cursor {
+
+        /** The node this cursor is on, a sentinel once past either end. */
+        private Node<T> myNode;
+
+        /** The list's splice count when this cursor was last known to be valid. */
+        private int mySpliceCount;
+
+        private Cursor(final Node<T> theNode) {
+            super();
+            myNode = theNode;
+            mySpliceCount = MyLinkedList.this.mySpliceCount;
+        }
+
+        /** Throws if nodes have moved to or from another list since this cursor was made. */
+        private void checkValid() {
+            if (mySpliceCount != MyLinkedList.this.mySpliceCount) {
+                throw new ConcurrentModificationException(
+                    "The list was spliced or split after this cursor was made");
+            }
+        }
+
+        private MyLinkedList<T> list() {
+            return MyLinkedList.this;
+        }
+
+        /**
+         * Moves this cursor to the start of the list and returns its item.
+         * @return The item at the start of the list.
+         */
+        public T first() {
+            checkValid();
+            myNode = myHead.myNext;
+            return myNode.myItem;
+        }
+
+        /**
+         * Returns the item at this cursor.
+         * @return The item at this cursor.
+         */
+        public T current() {
+            checkValid();
+            return myNode.myItem;
+        }
+
+        /**
+         * Moves this cursor forward one node and returns its item.
+         * @return The item after the current node.
+         */
+        public T next() {
+            checkValid();
+            T result = null;
+            if (myNode != myTail) {
+                myNode = myNode.myNext;
+                result = myNode.myItem;
+            }
+            return result;
+        }
+
+        /**
+         * Moves this cursor back one node and returns its item.
+         * @return The item before the current node.
+         */
+        public T previous() {
+            checkValid();
+            T result = null;
+            if (myNode != myHead) {
+                myNode = myNode.myPrevious;
+                result = myNode.myItem;
+            }
+            return result;
+        }
+
+        /**
+         * Returns if this cursor is on an item rather than before the start or past the end.
+         * @return if this cursor is on an item.
+         */
+        public boolean hasCurrent() {
+            checkValid();
+            return myNode != myHead && myNode != myTail;
+        }
+
+        /**
+         * Adds the element before this cursor's node.
+         * @param theItem the item being added before this cursor's node.
+         */
+        public void addBefore(final T theItem) {
+            checkValid();
+            linkBefore(myNode == myHead ? myHead.myNext : myNode, theItem);
+        }
+
+        /**
+         * Adds the element after this cursor's node.
+         * @param theItem The element being added after this cursor's node.
+         */
+        public void addAfter(final T theItem) {
+            checkValid();
+            if (myNode != myTail) {
+                linkBefore(myNode.myNext, theItem);
+            }
+        }
+
+        /**
+         * Removes this cursor's node and moves to the next one. If the built-in
+         * cursor was on the same node, it moves to the next one as well.
+         * @return The item that was removed, or null if this cursor is not on an item.
+         */
+        public T remove() {
+            checkValid();
+            T result = null;
+            if (hasCurrent()) {
+                result = myNode.myItem;
+                final Node<T> next = myNode.myNext;
+                if (myCurrent == myNode) {
+                    myCurrent = next;
+                }
+                unlink(myNode);
+                myNode = next;
+            }
+            return result;
+        }
+    }
+
     private static final class Node<T> {
 
         /** The item stored in this Node. */
@@ -194,9 +1006,31 @@ public class MyLinkedList<T extends Comparable<T>> {
         /** The Node after this Node. */
         private Node<T> myNext;
 
+        /** The Node before this Node. */
+        private Node<T> myPrevious;
+
+        /** The block this Node belongs to, null for the sentinels. */
+        private Block<T> myBlock;
+
         @Override
         public String toString() {
             return myItem == null ? null : myItem.toString();
         }
     }
+
+    /** A run of consecutive Nodes that records how many Nodes it holds. */
+    private static final class Block<T> {
+
+        /** The first Node of this Block. */
+        private Node<T> myFirst;
+
+        /** How many Nodes are in this Block. */
+        private int myCount;
+
+        /** The Block after this Block. */
+        private Block<T> myNext;
+
+        /** The Block before this Block. */
+        private Block<T> myPrevious;
+    }
 }
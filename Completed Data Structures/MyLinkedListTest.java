@@ -0,0 +1,414 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyLinkedListTest
+{
+	private MyLinkedList<Integer> list;
+	private List<Integer> reference;
+	private Random random;
+
+	@BeforeEach
+	public final void setup()
+	{
+		list = new MyLinkedList<>();
+		reference = new ArrayList<>();
+		random = new Random(342);
+	}
+
+	@Test
+	public final void get_after_append() throws Exception
+	{
+		for (int i = 0; i < 200000; i++) {
+			final MyLinkedList<Integer> single = new MyLinkedList<>();
+			single.addLast(i);
+			list.append(single);
+			assertTrue(single.isEmpty(), "get_after_append fail");
+		}
+		assertEquals(200000, list.size(), "get_after_append fail");
+		assertTimeout(Duration.ofSeconds(5), () -> {
+			for (int i = 0; i < 20000; i++) {
+				final int index = random.nextInt(200000);
+				assertEquals(Integer.valueOf(index), list.get(index), "get_after_append fail");
+			}
+		}, "get_after_append too slow");
+	}
+
+	@Test
+	public final void get_after_split_at() throws Exception
+	{
+		fill(list, reference, 20000);
+		for (int i = 0; i < 2000; i++) {
+			final int index = random.nextInt(list.size() + 1);
+			final MyLinkedList<Integer> tail = list.splitAt(cursorAt(list, index));
+			assertEquals(reference.size() - index, tail.size(), "get_after_split_at fail");
+			list.spliceBefore(list.cursor(), tail);
+			final List<Integer> moved = new ArrayList<>(reference.subList(index, reference.size()));
+			reference.subList(index, reference.size()).clear();
+			reference.addAll(0, moved);
+		}
+		assertTimeout(Duration.ofSeconds(5), () -> check_against_reference(20000),
+				"get_after_split_at too slow");
+	}
+
+	@Test
+	public final void splice_split_sort() throws Exception
+	{
+		fill(list, reference, 1000);
+		for (int round = 0; round < 300; round++) {
+			final int operation = random.nextInt(5);
+			if (operation == 0) {
+				final MyLinkedList<Integer> other = new MyLinkedList<>();
+				final List<Integer> otherReference = new ArrayList<>();
+				fill(other, otherReference, random.nextInt(200));
+				list.append(other);
+				reference.addAll(otherReference);
+				assertEquals(0, other.size(), "splice_split_sort fail");
+			} else if (operation == 1) {
+				final MyLinkedList<Integer> other = new MyLinkedList<>();
+				final List<Integer> otherReference = new ArrayList<>();
+				fill(other, otherReference, random.nextInt(200));
+				final int index = random.nextInt(list.size() + 1);
+				list.spliceBefore(cursorAt(list, index), other);
+				reference.addAll(index, otherReference);
+			} else if (operation == 2) {
+				final int index = random.nextInt(list.size() + 1);
+				final MyLinkedList<Integer> tail = list.splitAt(cursorAt(list, index));
+				final List<Integer> tailReference = reference.subList(index, reference.size());
+				assertEquals(tailReference.size(), tail.size(), "splice_split_sort fail");
+				for (int i = 0; i < tailReference.size(); i++) {
+					assertEquals(tailReference.get(i), tail.get(i), "splice_split_sort fail");
+				}
+				tailReference.clear();
+			} else if (operation == 3) {
+				list.sort();
+				reference.sort(null);
+			} else if (!reference.isEmpty()) {
+				final int index = random.nextInt(reference.size());
+				assertEquals(reference.remove(index), list.removeAt(index), "splice_split_sort fail");
+			}
+			assertEquals(reference.size(), list.size(), "splice_split_sort fail");
+			check_against_reference(50);
+		}
+		assertEquals(reference.toString(), list.toString(), "splice_split_sort fail");
+		while (!reference.isEmpty()) {
+			final int index = random.nextInt(reference.size());
+			assertEquals(reference.remove(index), list.removeAt(index), "splice_split_sort fail");
+		}
+		assertEquals("[]", list.toString(), "splice_split_sort fail");
+	}
+
+	@Test
+	public final void sort_comparator_throws()
+	{
+		fill(list, reference, 500);
+		for (final int limit : new int[] {0, 1, 7, 100, 1000, 3000}) {
+			final int[] comparisons = {0};
+			list.seek(123);
+			final RuntimeException thrown = assertThrows(IllegalStateException.class,
+					() -> list.sort((theFirst, theSecond) -> {
+						if (comparisons[0]++ == limit) {
+							throw new IllegalStateException("comparator failed");
+						}
+						return theFirst.compareTo(theSecond);
+					}), "sort_comparator_throws fail");
+			assertEquals("comparator failed", thrown.getMessage(), "sort_comparator_throws fail");
+			assertEquals(reference.get(123), list.current(), "sort_comparator_throws cursor fail");
+			assertEquals(reference.toString(), list.toString(), "sort_comparator_throws fail");
+			for (int i = 0; i < reference.size(); i++) {
+				assertEquals(reference.get(i), list.get(i), "sort_comparator_throws fail at " + i);
+			}
+			int count = 0;
+			for (Integer item = list.first(); item != null; item = list.next()) {
+				assertEquals(reference.get(count++), item, "sort_comparator_throws walk fail");
+			}
+			assertEquals(reference.size(), count, "sort_comparator_throws walk fail");
+		}
+		list.sort();
+		reference.sort(null);
+		assertEquals(reference.toString(), list.toString(), "sort_comparator_throws fail");
+	}
+
+	@Test
+	public final void sort_null_item()
+	{
+		final MyLinkedList<String> strings = new MyLinkedList<>();
+		for (int i = 0; i < 10; i++) {
+			strings.addLast(i == 4 ? null : "s" + (9 - i));
+		}
+		assertThrows(NullPointerException.class, strings::sort, "sort_null_item fail");
+		assertEquals("s4", strings.get(5), "sort_null_item fail");
+		final MyLinkedList<String>.Cursor cursor = strings.cursor();
+		int count = 0;
+		while (cursor.hasCurrent() && count <= 10) {
+			cursor.next();
+			count++;
+		}
+		assertEquals(10, count, "sort_null_item walk fail");
+		for (int i = 0; i < 10; i++) {
+			assertEquals(i == 4 ? null : "s" + (9 - i), strings.get(i), "sort_null_item fail");
+		}
+		assertEquals(10, strings.size(), "sort_null_item fail");
+	}
+
+	@Test
+	public final void stale_cursor_after_split()
+	{
+		fill(list, reference, 20);
+		final MyLinkedList<Integer>.Cursor stale = cursorAt(list, 10);
+		final MyLinkedList<Integer>.Cursor split = cursorAt(list, 5);
+		final MyLinkedList<Integer> tail = list.splitAt(split);
+		assertThrows(ConcurrentModificationException.class, stale::remove, "stale remove fail");
+		assertThrows(ConcurrentModificationException.class, () -> stale.addBefore(1),
+				"stale addBefore fail");
+		assertThrows(ConcurrentModificationException.class, stale::next, "stale next fail");
+		assertEquals(5, list.size(), "stale_cursor_after_split fail");
+		assertEquals(15, tail.size(), "stale_cursor_after_split fail");
+		assertEquals(reference.subList(0, 5).toString(), list.toString(), "stale split fail");
+		assertEquals(reference.subList(5, 20).toString(), tail.toString(), "stale split fail");
+		assertFalse(split.hasCurrent(), "split cursor fail");
+		split.addBefore(99);
+		assertEquals(6, list.size(), "split cursor fail");
+		assertEquals(Integer.valueOf(99), list.get(5), "split cursor fail");
+		assertThrows(ConcurrentModificationException.class, () -> list.splitAt(stale),
+				"stale splitAt fail");
+	}
+
+	@Test
+	public final void stale_cursor_after_splice()
+	{
+		fill(list, reference, 10);
+		final MyLinkedList<Integer> other = new MyLinkedList<>();
+		fill(other, new ArrayList<>(), 10);
+		final MyLinkedList<Integer>.Cursor mine = cursorAt(list, 3);
+		final MyLinkedList<Integer>.Cursor at = cursorAt(list, 2);
+		final MyLinkedList<Integer>.Cursor donor = cursorAt(other, 4);
+		list.spliceBefore(at, other);
+		assertThrows(ConcurrentModificationException.class, mine::remove, "stale mine fail");
+		assertThrows(ConcurrentModificationException.class, donor::remove, "stale donor fail");
+		assertThrows(ConcurrentModificationException.class, () -> list.spliceBefore(mine, other),
+				"stale spliceBefore fail");
+		assertEquals(reference.get(2), at.current(), "splice cursor fail");
+		at.remove();
+		assertEquals(19, list.size(), "splice cursor fail");
+		assertEquals(0, other.size(), "splice cursor fail");
+
+		final MyLinkedList<Integer>.Cursor before = list.cursor();
+		list.append(new MyLinkedList<>());
+		assertEquals(reference.get(0), before.current(), "empty append fail");
+		other.addLast(1);
+		list.append(other);
+		assertThrows(ConcurrentModificationException.class, before::current, "stale append fail");
+		assertEquals(20, list.size(), "append fail");
+	}
+
+	@Test
+	public final void reference_model_plain()
+	{
+		reference_model(0, false);
+	}
+
+	@Test
+	public final void reference_model_pooled()
+	{
+		reference_model(64, false);
+	}
+
+	@Test
+	public final void reference_model_hash_index()
+	{
+		reference_model(0, true);
+	}
+
+	@Test
+	public final void reference_model_pooled_hash_index()
+	{
+		reference_model(64, true);
+	}
+
+	/**
+	 * Runs random edits through the built-in cursor, detached cursors, both
+	 * ends, indexes, splice, split, sort and clear, checking every result
+	 * against a java.util list. current is the built-in cursor's index, -1
+	 * before the start and size past the end.
+	 */
+	private void reference_model(final int thePoolCapacity, final boolean theHashIndex)
+	{
+		list = new MyLinkedList<>(thePoolCapacity);
+		if (theHashIndex) {
+			list.enableHashIndex();
+		}
+		int current = 0;
+		for (int round = 0; round < 30000; round++) {
+			final int item = random.nextInt(60);
+			final int size = reference.size();
+			final int operation = random.nextInt(25);
+			if (operation == 0) {
+				list.addBefore(item);
+				reference.add(current == -1 ? 0 : current, item);
+				current += current == -1 ? 0 : 1;
+			} else if (operation == 1) {
+				list.addAfter(item);
+				if (current != size) {
+					reference.add(current + 1, item);
+				}
+			} else if (operation == 2) {
+				list.addFirst(item);
+				reference.add(0, item);
+				current += current == -1 ? 0 : 1;
+			} else if (operation == 3) {
+				list.addLast(item);
+				reference.add(item);
+				current += current == size ? 1 : 0;
+			} else if (operation == 4) {
+				final boolean on = current > -1 && current < size;
+				assertEquals(on ? reference.remove(current) : null, list.remove(), "remove fail");
+			} else if (operation == 5) {
+				assertEquals(size > 0 ? reference.remove(0) : null, list.removeFirst(),
+						"removeFirst fail");
+				current -= size > 0 && current > 0 ? 1 : 0;
+			} else if (operation == 6) {
+				assertEquals(size > 0 ? reference.remove(size - 1) : null, list.removeLast(),
+						"removeLast fail");
+				current -= size > 0 && current == size ? 1 : 0;
+			} else if (operation == 7) {
+				final int index = random.nextInt(size + 2) - 1;
+				final boolean valid = index > -1 && index < size;
+				assertEquals(valid ? reference.remove(index) : null, list.removeAt(index),
+						"removeAt fail");
+				current -= valid && current > index ? 1 : 0;
+			} else if (operation == 8) {
+				final int index = random.nextInt(size + 2) - 1;
+				final boolean valid = index > -1 && index < size;
+				assertEquals(valid ? reference.get(index) : null, list.seek(index), "seek fail");
+				current = valid || index == size ? index : current;
+			} else if (operation == 9) {
+				assertEquals(size > 0 ? reference.get(0) : null, list.first(), "first fail");
+				current = 0;
+			} else if (operation == 10) {
+				assertEquals(size > 0 ? reference.get(size - 1) : null, list.last(), "last fail");
+				current = size - 1;
+			} else if (operation == 11) {
+				final boolean moves = current != size;
+				current += moves ? 1 : 0;
+				assertEquals(moves && current < size ? reference.get(current) : null, list.next(),
+						"next fail");
+			} else if (operation == 12) {
+				final boolean moves = current != -1;
+				current -= moves ? 1 : 0;
+				assertEquals(moves && current > -1 ? reference.get(current) : null, list.previous(),
+						"previous fail");
+			} else if (operation == 13) {
+				final int index = random.nextInt(size + 1);
+				cursorAt(list, index).addBefore(item);
+				reference.add(index, item);
+				current += current >= index ? 1 : 0;
+			} else if (operation == 14 && size > 0) {
+				final int index = random.nextInt(size);
+				cursorAt(list, index).addAfter(item);
+				reference.add(index + 1, item);
+				current += current > index ? 1 : 0;
+			} else if (operation == 15 && size > 0) {
+				final int index = random.nextInt(size);
+				assertEquals(reference.remove(index), cursorAt(list, index).remove(),
+						"cursor remove fail");
+				current -= current > index ? 1 : 0;
+			} else if (operation == 16) {
+				final MyLinkedList<Integer> other = new MyLinkedList<>(thePoolCapacity);
+				final List<Integer> otherReference = new ArrayList<>();
+				fill(other, otherReference, random.nextInt(40));
+				if (random.nextBoolean()) {
+					other.enableHashIndex();
+				}
+				final int index = random.nextInt(size + 1);
+				list.spliceBefore(cursorAt(list, index), other);
+				reference.addAll(index, otherReference);
+				current += current >= index ? otherReference.size() : 0;
+				assertTrue(other.isEmpty(), "spliceBefore fail");
+				assertFalse(other.contains(item), "spliceBefore donor contains fail");
+			} else if (operation == 17) {
+				final int index = random.nextInt(size + 1);
+				final MyLinkedList<Integer> tail = list.splitAt(cursorAt(list, index));
+				final List<Integer> tailReference = reference.subList(index, size);
+				assertEquals(theHashIndex, tail.isHashIndexed(), "splitAt index fail");
+				assertEquals(tailReference.toString(), tail.toString(), "splitAt fail");
+				assertEquals(tailReference.contains(item), tail.contains(item),
+						"splitAt tail contains fail");
+				current = Math.min(current, index);
+				if (random.nextBoolean()) {
+					tailReference.clear();
+				} else {
+					assertEquals(reference.subList(0, index).contains(item), list.contains(item),
+							"splitAt contains fail");
+					list.append(tail);
+					current = current == index ? reference.size() : current;
+				}
+			} else if (operation == 18 && random.nextInt(20) == 0) {
+				list.clear();
+				reference.clear();
+				current = 0;
+			} else if (operation == 19 && random.nextInt(10) == 0) {
+				list.sort();
+				reference.sort(null);
+				list.first();
+				current = 0;
+			} else if (operation == 20 && theHashIndex && random.nextInt(50) == 0) {
+				list.disableHashIndex();
+				assertFalse(list.isHashIndexed(), "disableHashIndex fail");
+				list.enableHashIndex();
+			} else {
+				assertEquals(reference.contains(item), list.contains(item), "contains fail");
+			}
+			assertEquals(reference.size(), list.size(), "size fail");
+			assertEquals(current > -1 && current < reference.size() ? reference.get(current) : null,
+					list.current(), "current fail");
+			if (round % 500 == 0) {
+				assertEquals(reference.toString(), list.toString(), "toString fail");
+				for (int i = 0; i < reference.size(); i++) {
+					assertEquals(reference.get(i), list.get(i), "get fail at " + i);
+				}
+				for (int i = 0; i < 60; i++) {
+					assertEquals(reference.contains(i), list.contains(i), "contains fail " + i);
+				}
+			}
+		}
+		assertEquals(theHashIndex, list.isHashIndexed(), "hash index fail");
+	}
+
+	private void check_against_reference(final int theProbes)
+	{
+		assertNull(list.get(-1), "get out of bounds fail");
+		assertNull(list.get(reference.size()), "get out of bounds fail");
+		for (int i = 0; i < theProbes && !reference.isEmpty(); i++) {
+			final int index = random.nextInt(reference.size());
+			assertEquals(reference.get(index), list.get(index), "get fail at " + index);
+		}
+	}
+
+	private void fill(final MyLinkedList<Integer> theList, final List<Integer> theReference,
+			final int theCount)
+	{
+		for (int i = 0; i < theCount; i++) {
+			final int item = random.nextInt(1000);
+			theList.addLast(item);
+			theReference.add(item);
+		}
+	}
+
+	private MyLinkedList<Integer>.Cursor cursorAt(final MyLinkedList<Integer> theList,
+			final int theIndex)
+	{
+		final MyLinkedList<Integer>.Cursor cursor = theList.cursor();
+		for (int i = 0; i < theIndex; i++) {
+			cursor.next();
+		}
+		return cursor;
+	}
+}
@@ -0,0 +1,338 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A data structure used as a dynamically sized array of fixed-width
+ * integer records stored outside of the Java heap.
+ * Records are 1, 2, 4 or 8 bytes wide and are read and written as longs.
+ * The memory is released as soon as the list is closed.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyOffHeapArrayList implements AutoCloseable {
+
+    /** The default size the array will be instantiated to. */
+    private static final int DEFAULT_SIZE = 16;
+
+    /** Frees a direct buffer immediately, or null if the JVM does not allow it. */
+    private static final MethodHandle CLEANER = findCleaner();
+
+    /** The width of every record in bytes. */
+    private final int myWidth;
+
+    /** Decides how much the array grows when it runs out of room. */
+    private final GrowthPolicy myGrowthPolicy;
+
+    /** The off-heap memory used to store the records, null once closed. */
+    private ByteBuffer myBuffer;
+
+    /** The max capacity for the list. */
+    private int myCapacity;
+
+    /** How many records are stored in the list. */
+    private int mySize;
+
+    /**
+     * Constructor used to instantiate a new MyOffHeapArrayList.
+     * @param theWidth the width of every record in bytes, one of 1, 2, 4 or 8.
+     */
+    public MyOffHeapArrayList(final int theWidth) {
+        this(theWidth, DEFAULT_SIZE, GrowthPolicy.DOUBLE);
+    }
+
+    /**
+     * Constructor used to instantiate a new MyOffHeapArrayList with the given
+     * starting capacity and growth policy.
+     * @param theWidth        the width of every record in bytes, one of 1, 2, 4 or 8.
+     * @param theCapacity     the number of records the list can hold before it first grows.
+     * @param theGrowthPolicy decides how much the array grows when it runs out of room.
+     */
+    public MyOffHeapArrayList(final int theWidth, final int theCapacity,
+                              final GrowthPolicy theGrowthPolicy) {
+        super();
+        if (theWidth != Byte.BYTES && theWidth != Short.BYTES
+            && theWidth != Integer.BYTES && theWidth != Long.BYTES
+            || theCapacity < 0 || theGrowthPolicy == null) {
+            throw new IllegalArgumentException();
+        }
+        myWidth = theWidth;
+        myGrowthPolicy = theGrowthPolicy;
+        myBuffer = allocate(theCapacity);
+        myCapacity = theCapacity;
+        mySize = 0;
+    }
+
+    /**
+     * Inserts a record at the given index.
+     * @param theItem  the record being inserted to the list.
+     * @param theIndex the index the record is being inserted at.
+     * @throws IllegalArgumentException if theItem does not fit in the record width.
+     */
+    public void insert(final long theItem, final int theIndex) {
+        checkOpen();
+        checkFits(theItem);
+        if (theIndex < mySize + 1 && theIndex > -1) {
+            if (mySize == myCapacity) {
+                resize();
+            }
+            myBuffer.put((theIndex + 1) * myWidth, myBuffer, theIndex * myWidth,
+                         (mySize - theIndex) * myWidth);
+            write(theIndex, theItem);
+            mySize++;
+        }
+    }
+
+    private void resize() {
+        final int capacity = myGrowthPolicy.nextCapacity(myCapacity, mySize + 1);
+        final ByteBuffer temp = allocate(Math.min(capacity, Integer.MAX_VALUE / myWidth));
+        temp.put(0, myBuffer, 0, mySize * myWidth);
+        free(myBuffer);
+        myBuffer = temp;
+        myCapacity = temp.capacity() / myWidth;
+    }
+
+    /** Sorts the MyOffHeapArrayList using MergeSort. */
+    public void sort() {
+        checkOpen();
+        if (mySize > 1) {
+            final ByteBuffer scratch = allocate(mySize / 2 + 1);
+            try {
+                mergeSort(scratch, 0, mySize - 1);
+            } finally {
+                free(scratch);
+            }
+        }
+    }
+
+    private void mergeSort(final ByteBuffer theScratch, final int theStart, final int theEnd) {
+        if (theStart < theEnd) {
+            final int mid = ((theStart + theEnd) / 2) + 1;
+            mergeSort(theScratch, theStart, mid - 1);
+            mergeSort(theScratch, mid, theEnd);
+            if (read(mid - 1) > read(mid)) {
+                merge(theScratch, theStart, mid, theEnd);
+            }
+        }
+    }
+
+    private void merge(final ByteBuffer theScratch, final int theStart,
+                       final int theMiddle, final int theEnd) {
+        final int leftLength = theMiddle - theStart;
+        theScratch.put(0, myBuffer, theStart * myWidth, leftLength * myWidth);
+        int i = 0;
+        int j = theMiddle;
+        int k = theStart;
+        while (i < leftLength && j < theEnd + 1) {
+            final long left = read(theScratch, i);
+            final long right = read(j);
+            if (right < left) {
+                write(k++, right);
+                j++;
+            } else {
+                write(k++, left);
+                i++;
+            }
+        }
+        myBuffer.put(k * myWidth, theScratch, i * myWidth, (leftLength - i) * myWidth);
+    }
+
+    /**
+     * Removes the record at the given index.
+     * @param theIndex the index of the record being removed.
+     * @return the record that was removed.
+     * @throws IndexOutOfBoundsException if there is no such index.
+     */
+    public long remove(final int theIndex) {
+        checkOpen();
+        checkIndex(theIndex);
+        final long item = read(theIndex);
+        myBuffer.put(theIndex * myWidth, myBuffer, (theIndex + 1) * myWidth,
+                     (mySize - theIndex - 1) * myWidth);
+        mySize--;
+        return item;
+    }
+
+    /**
+     * If the given record is in the list.
+     * @param theItem record whose presence in this list is to be tested.
+     * @return true if this list contains the specified record.
+     */
+    public boolean contains(final long theItem) {
+        return indexOf(theItem) != -1;
+    }
+
+    /**
+     * Finds index of given record or -1 if there is no such index.
+     * @param theItem the record to search for.
+     * @return the index of the record.
+     */
+    public int indexOf(final long theItem) {
+        checkOpen();
+        int result = -1;
+        for (int i = 0; i < mySize; i++) {
+            if (read(i) == theItem) {
+                result = i;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the record for the given index.
+     * @param theIndex the index of the record to be retrieved.
+     * @return The record at the index.
+     * @throws IndexOutOfBoundsException if there is no such index.
+     */
+    public long get(final int theIndex) {
+        checkOpen();
+        checkIndex(theIndex);
+        return read(theIndex);
+    }
+
+    /**
+     * Updates the record at the given index or if out bounds does nothing.
+     * @param theIndex The index for the given record to be set.
+     * @param theItem The record to be set of the given index.
+     * @throws IllegalArgumentException if theItem does not fit in the record width.
+     */
+    public void set(final int theIndex, final long theItem) {
+        checkOpen();
+        checkFits(theItem);
+        if (mySize > theIndex && theIndex > -1) {
+            write(theIndex, theItem);
+        }
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return The size of the list.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Returns if the list is empty.
+     * @return returns if the list is empty.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /**
+     * Returns the width of every record in bytes.
+     * @return the width of every record in bytes.
+     */
+    public int width() {
+        return myWidth;
+    }
+
+    /** Releases the off-heap memory. The list cannot be used afterwards. */
+    @Override
+    public void close() {
+        if (myBuffer != null) {
+            free(myBuffer);
+            myBuffer = null;
+            myCapacity = 0;
+            mySize = 0;
+        }
+    }
+
+    private long read(final int theIndex) {
+        return read(myBuffer, theIndex);
+    }
+
+    private long read(final ByteBuffer theBuffer, final int theIndex) {
+        final int offset = theIndex * myWidth;
+        return switch (myWidth) {
+            case Byte.BYTES -> theBuffer.get(offset);
+            case Short.BYTES -> theBuffer.getShort(offset);
+            case Integer.BYTES -> theBuffer.getInt(offset);
+            default -> theBuffer.getLong(offset);
+        };
+    }
+
+    private void write(final int theIndex, final long theItem) {
+        final int offset = theIndex * myWidth;
+        switch (myWidth) {
+            case Byte.BYTES -> myBuffer.put(offset, (byte) theItem);
+            case Short.BYTES -> myBuffer.putShort(offset, (short) theItem);
+            case Integer.BYTES -> myBuffer.putInt(offset, (int) theItem);
+            default -> myBuffer.putLong(offset, theItem);
+        }
+    }
+
+    private ByteBuffer allocate(final int theCapacity) {
+        return ByteBuffer.allocateDirect(theCapacity * myWidth).order(ByteOrder.nativeOrder());
+    }
+
+    private void checkOpen() {
+        if (myBuffer == null) {
+            throw new IllegalStateException("The list has been closed");
+        }
+    }
+
+    private void checkIndex(final int theIndex) {
+        if (theIndex >= mySize || theIndex < 0) {
+            throw new IndexOutOfBoundsException("Index: " + theIndex + ", Size: " + mySize);
+        }
+    }
+
+    private void checkFits(final long theItem) {
+        final int unused = Long.SIZE - myWidth * Byte.SIZE;
+        if (theItem << unused >> unused != theItem) {
+            throw new IllegalArgumentException(theItem + " does not fit in " + myWidth + " bytes");
+        }
+    }
+
+    /*
+     * Direct buffers are otherwise only released once they are garbage collected.
+     * sun.misc.Unsafe.invokeCleaner releases one immediately; if it cannot be
+     * reached the buffer is simply left for the collector.
+     */
+    private static MethodHandle findCleaner() {
+        MethodHandle result = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            result = MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner",
+                                 MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            result = null;
+        }
+        return result;
+    }
+
+    private static void free(final ByteBuffer theBuffer) {
+        if (CLEANER != null) {
+            try {
+                CLEANER.invokeExact(theBuffer);
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (myBuffer == null || isEmpty()) {
+            builder.append(']');
+        } else {
+            for (int i = 0; i < mySize - 1; i++) {
+                builder.append(read(i)).append(", ");
+            }
+            builder.append(read(mySize - 1)).append(']');
+        }
+        return builder.toString();
+    }
+}
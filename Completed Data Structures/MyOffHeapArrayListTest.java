@@ -0,0 +1,156 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyOffHeapArrayListTest
+{
+	private static final int[] WIDTHS = {Byte.BYTES, Short.BYTES, Integer.BYTES, Long.BYTES};
+
+	private Random random;
+
+	@BeforeEach
+	public final void setup()
+	{
+		random = new Random(342);
+	}
+
+	@Test
+	public final void bad_arguments()
+	{
+		for (final int width : new int[] {0, 3, 5, 16, -1}) {
+			assertThrows(IllegalArgumentException.class, () -> new MyOffHeapArrayList(width),
+					"bad_arguments width " + width);
+		}
+		assertThrows(IllegalArgumentException.class,
+				() -> new MyOffHeapArrayList(4, -1, GrowthPolicy.DOUBLE), "bad_arguments fail");
+		assertThrows(IllegalArgumentException.class,
+				() -> new MyOffHeapArrayList(4, 16, null), "bad_arguments fail");
+	}
+
+	@Test
+	public final void fits_each_width()
+	{
+		for (final int width : WIDTHS) {
+			try (MyOffHeapArrayList list = new MyOffHeapArrayList(width)) {
+				assertEquals(width, list.width(), "fits fail");
+				list.insert(min(width), 0);
+				list.insert(max(width), 1);
+				list.insert(0, 2);
+				list.insert(-1, 3);
+				assertEquals(min(width), list.get(0), "fits min fail width " + width);
+				assertEquals(max(width), list.get(1), "fits max fail width " + width);
+				assertEquals(0L, list.get(2), "fits fail width " + width);
+				assertEquals(-1L, list.get(3), "fits fail width " + width);
+				if (width < Long.BYTES) {
+					assertThrows(IllegalArgumentException.class, () -> list.insert(max(width) + 1, 0),
+							"fits max + 1 fail width " + width);
+					assertThrows(IllegalArgumentException.class, () -> list.insert(min(width) - 1, 0),
+							"fits min - 1 fail width " + width);
+					assertThrows(IllegalArgumentException.class, () -> list.set(0, max(width) + 1),
+							"fits set fail width " + width);
+				}
+				assertEquals(4, list.size(), "fits fail width " + width);
+				assertEquals(min(width), list.get(0), "fits fail width " + width);
+			}
+		}
+	}
+
+	@Test
+	public final void insert_remove_each_width()
+	{
+		for (final int width : WIDTHS) {
+			try (MyOffHeapArrayList list = new MyOffHeapArrayList(width, 2, GrowthPolicy.DOUBLE)) {
+				final List<Long> reference = new ArrayList<>();
+				for (int round = 0; round < 20000; round++) {
+					final int operation = random.nextInt(10);
+					if (operation < 5 || reference.isEmpty()) {
+						final long item = item(width);
+						final int index = random.nextInt(reference.size() + 1);
+						list.insert(item, index);
+						reference.add(index, item);
+					} else if (operation < 8) {
+						final int index = random.nextInt(reference.size());
+						assertEquals(reference.remove(index).longValue(), list.remove(index),
+								"remove fail width " + width);
+					} else if (operation < 9) {
+						final long item = item(width);
+						final int index = random.nextInt(reference.size());
+						list.set(index, item);
+						reference.set(index, item);
+					} else {
+						final long item = reference.get(random.nextInt(reference.size()));
+						assertEquals(reference.indexOf(item), list.indexOf(item),
+								"indexOf fail width " + width);
+						assertTrue(list.contains(item), "contains fail width " + width);
+					}
+					assertEquals(reference.size(), list.size(), "size fail width " + width);
+				}
+				check(list, reference, width);
+				list.insert(0, reference.size() + 1);
+				list.set(-1, 0);
+				list.set(reference.size(), 0);
+				check(list, reference, width);
+				assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1), "get fail");
+				assertThrows(IndexOutOfBoundsException.class, () -> list.get(list.size()), "get fail");
+				assertThrows(IndexOutOfBoundsException.class, () -> list.remove(list.size()),
+						"remove fail");
+
+				list.sort();
+				Collections.sort(reference);
+				check(list, reference, width);
+			}
+		}
+	}
+
+	@Test
+	public final void use_after_close()
+	{
+		for (final int width : WIDTHS) {
+			final MyOffHeapArrayList list = new MyOffHeapArrayList(width);
+			list.insert(1, 0);
+			list.close();
+			list.close();
+			assertEquals(0, list.size(), "use_after_close fail");
+			assertTrue(list.isEmpty(), "use_after_close fail");
+			assertThrows(IllegalStateException.class, () -> list.insert(1, 0), "insert after close");
+			assertThrows(IllegalStateException.class, () -> list.get(0), "get after close");
+			assertThrows(IllegalStateException.class, () -> list.set(0, 1), "set after close");
+			assertThrows(IllegalStateException.class, () -> list.remove(0), "remove after close");
+			assertThrows(IllegalStateException.class, () -> list.indexOf(1), "indexOf after close");
+			assertThrows(IllegalStateException.class, () -> list.contains(1), "contains after close");
+			assertThrows(IllegalStateException.class, list::sort, "sort after close");
+		}
+	}
+
+	private void check(final MyOffHeapArrayList theList, final List<Long> theReference,
+			final int theWidth)
+	{
+		assertEquals(theReference.size(), theList.size(), "size fail width " + theWidth);
+		for (int i = 0; i < theReference.size(); i++) {
+			assertEquals(theReference.get(i).longValue(), theList.get(i),
+					"get fail at " + i + " width " + theWidth);
+		}
+	}
+
+	private long item(final int theWidth)
+	{
+		return theWidth == Long.BYTES ? random.nextLong()
+				: min(theWidth) + (long) (random.nextDouble() * (max(theWidth) - min(theWidth) + 1));
+	}
+
+	private static long min(final int theWidth)
+	{
+		return theWidth == Long.BYTES ? Long.MIN_VALUE : -(1L << (theWidth * Byte.SIZE - 1));
+	}
+
+	private static long max(final int theWidth)
+	{
+		return theWidth == Long.BYTES ? Long.MAX_VALUE : (1L << (theWidth * Byte.SIZE - 1)) - 1;
+	}
+}
@@ -1,3 +1,5 @@
+import java.util.function.ToIntFunction;
+
 /**
  * A data structure in which all elements added to it
  * will be place in there ordered based of compareTo.
@@ -22,24 +24,21 @@ public class MyOrderedList<T extends Comparable<T>> {
     }
 
     /**
-     * Adds theItem to its correct position.
+     * Adds theItem to its correct position, after any equal items.
+     * The position is found by binary search and opened with a single shift.
      * @param theItem The item being added.
      */
     public void add(final T theItem) {
-        if (!myList.isEmpty()) {
-            myList.insert(theItem, myList.size());
-            int i = 1;
-            final int size = myList.size();
-            while (size != i && myList.get(size - i).
-                   compareTo(myList.get(size - (i + 1))) < 0) {
-                final T temp = myList.get(size - (i + 1));
-                myList.set(size - (i + 1), myList.get(size - i));
-                myList.set(size - i, temp);
-                i++;
-            }
-        } else {
-            myList.insert(theItem, 0);
-        }
+        myList.insert(theItem, myList.upperBound(theItem));
+    }
+
+    /**
+     * Adds every item of theItems to its correct position in one linear merge.
+     * theItems is sorted first if it is not known to be sorted.
+     * @param theItems The items being added.
+     */
+    public void addAll(final MyArrayList<T> theItems) {
+        myList.mergeSorted(theItems);
     }
 
     /**
@@ -54,29 +53,106 @@ public class MyOrderedList<T extends Comparable<T>> {
     /**
      * Searched for theItem using binary search.
      * @param theItem The item being searched for.
-     * @return A boolean of if the item is in the list.
+     * @return The item if it is in the list, null if not.
      */
     public T binarySearch(final T theItem) {
-        return binarySearch(theItem, 0, myList.size() - 1);
+        T result = null;
+        int low = 0;
+        int high = myList.size() - 1;
+        while (low <= high) {
+            comparisons++;
+            final int mid = (low + high) >>> 1;
+            final T item = myList.get(mid);
+            final int c = item.compareTo(theItem);
+            if (c == 0) {
+                result = item;
+                break;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return result;
     }
 
-    private T binarySearch(final T theItem, final int theStart, final int theFinish) {
+    /**
+     * Searches by binary search for an item that theComparator maps to 0,
+     * so callers can search by a key without building a probe item.
+     * theComparator must order the items the same way compareTo does,
+     * returning how an item compares to the key being searched for.
+     * @param theComparator returns negative, zero or positive as an item is
+     *                      less than, equal to or greater than the key.
+     * @return An item theComparator maps to 0, null if there is none.
+     */
+    public T binarySearch(final ToIntFunction<? super T> theComparator) {
         T result = null;
-        if (theStart <= theFinish) {
+        int low = 0;
+        int high = myList.size() - 1;
+        while (low <= high) {
             comparisons++;
-            final int mid = (theStart + theFinish) / 2;
-            final int c = myList.get(mid).compareTo(theItem);
+            final int mid = (low + high) >>> 1;
+            final T item = myList.get(mid);
+            final int c = theComparator.applyAsInt(item);
             if (c == 0) {
-                result = myList.get(mid);
+                result = item;
+                break;
             } else if (c > 0) {
-                result = binarySearch(theItem, theStart, mid - 1);
+                high = mid - 1;
             } else {
-                result = binarySearch(theItem, mid + 1, theFinish);
+                low = mid + 1;
             }
         }
         return result;
     }
 
+    /**
+     * Returns how many items in the list are less than theItem.
+     * @param theItem the item to rank.
+     * @return the number of items less than theItem.
+     */
+    public int rank(final T theItem) {
+        return myList.lowerBound(theItem);
+    }
+
+    /**
+     * Returns the item with theRank items before it, null if theRank is out of bounds.
+     * @param theRank how many items come before the item.
+     * @return the item with the given rank, null if theRank is out of bounds.
+     */
+    public T select(final int theRank) {
+        return myList.get(theRank);
+    }
+
+    /**
+     * Returns the greatest item not greater than theItem.
+     * @param theItem the item to search for.
+     * @return the last item not greater than theItem, null if there is none.
+     */
+    public T floor(final T theItem) {
+        return myList.get(myList.upperBound(theItem) - 1);
+    }
+
+    /**
+     * Returns the least item not less than theItem.
+     * @param theItem the item to search for.
+     * @return the first item not less than theItem, null if there is none.
+     */
+    public T ceiling(final T theItem) {
+        return myList.get(myList.lowerBound(theItem));
+    }
+
+    /**
+     * Returns a read-only view of the items from theFromKey, inclusive, to theToKey,
+     * exclusive. The view is only valid until the list is next modified.
+     * @param theFromKey the lowest item in the view.
+     * @param theToKey   the item every item in the view is less than.
+     * @return a view of the items in the given range.
+     */
+    public MyArrayList<T>.RangeView subList(final T theFromKey, final T theToKey) {
+        return myList.rangeView(theFromKey, theToKey);
+    }
+
     /**
      * Returns the item at the given index, null if index is out of bounds.
      * @param theIndex the index of the item to be retrieved.
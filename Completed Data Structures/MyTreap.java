@@ -0,0 +1,233 @@
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * A data structure used as a randomized binary search tree, with the same
+ * add/remove/find/height/size operations as MyBinarySearchTree. Every Node
+ * gets a random priority and the tree is kept a heap on those priorities, so
+ * its expected height is O(log n) for any input order. An add makes fewer
+ * than two rotations on average.
+ * @param <T> The generic type of this data structure.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyTreap<T extends Comparable<T>> {
+
+    /** The root of the treap. */
+    public Node root;
+
+    /** The size of the treap. */
+    private int mySize;
+
+    /** How many comparisons were made during the UniqueWords test. */
+    public long comparisons;
+
+    /** Chooses the priority of each new Node. */
+    private final SplittableRandom myRandom;
+
+    /** Constructor used to instantiate a new MyTreap. */
+    public MyTreap() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor used to instantiate a new MyTreap whose shape is
+     * repeatable for the same seed and input.
+     * @param theSeed the seed used to choose Node priorities.
+     */
+    public MyTreap(final long theSeed) {
+        this(new SplittableRandom(theSeed));
+    }
+
+    private MyTreap(final SplittableRandom theRandom) {
+        super();
+        root = null;
+        mySize = 0;
+        comparisons = 0;
+        myRandom = theRandom;
+    }
+
+    /** Adds the given item to it's correct position. */
+    public void add(final T theItem) {
+        root = add(theItem, root);
+        mySize++;
+    }
+
+    private Node add(final T theItem, final Node theSubtree) {
+        Node result = theSubtree;
+        if (theSubtree == null) {
+            result = new Node(theItem, myRandom.nextInt());
+        } else if (theSubtree.myItem.compareTo(theItem) > 0) {
+            theSubtree.myLeft = add(theItem, theSubtree.myLeft);
+            if (theSubtree.myLeft.myPriority > theSubtree.myPriority) {
+                result = rotateRight(theSubtree);
+            }
+        } else {
+            theSubtree.myRight = add(theItem, theSubtree.myRight);
+            if (theSubtree.myRight.myPriority > theSubtree.myPriority) {
+                result = rotateLeft(theSubtree);
+            }
+        }
+        updateHeight(result);
+        return result;
+    }
+
+    /** Removes the given item if found. */
+    public void remove(final T theItem) {
+        if (theItem.equals(find(theItem))) {
+            mySize--;
+            root = remove(theItem, root);
+        }
+    }
+
+    private Node remove(final T theItem, final Node theSubtree) {
+        Node result = theSubtree;
+        final int c = theSubtree.myItem.compareTo(theItem);
+        if (c == 0) {
+            if (theSubtree.myLeft == null) {
+                result = theSubtree.myRight;
+            } else if (theSubtree.myRight == null) {
+                result = theSubtree.myLeft;
+            } else if (theSubtree.myLeft.myPriority > theSubtree.myRight.myPriority) {
+                result = rotateRight(theSubtree);
+                result.myRight = remove(theItem, theSubtree);
+            } else {
+                result = rotateLeft(theSubtree);
+                result.myLeft = remove(theItem, theSubtree);
+            }
+        } else if (c < 0) {
+            theSubtree.myRight = remove(theItem, theSubtree.myRight);
+        } else {
+            theSubtree.myLeft = remove(theItem, theSubtree.myLeft);
+        }
+        if (result != null) {
+            updateHeight(result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds and returns the given item if present.
+     * @param theItem element whose presence in this treap is to be tested.
+     * @return The item if present, null otherwise.
+     */
+    public T find(final T theItem) {
+        return find(theItem, root);
+    }
+
+    private T find(final T theItem, final Node theSubtree) {
+        T result = null;
+        comparisons++;
+        if (theSubtree != null) {
+            if (theSubtree.myItem.equals(theItem)) {
+                result = theSubtree.myItem;
+            } else if (theSubtree.myItem.compareTo(theItem) < 0) {
+                result = find(theItem, theSubtree.myRight);
+            } else {
+                result = find(theItem, theSubtree.myLeft);
+            }
+        }
+        return result;
+    }
+
+    private Node rotateLeft(final Node theNode) {
+        final Node result = theNode.myRight;
+        theNode.myRight = result.myLeft;
+        result.myLeft = theNode;
+        updateHeight(theNode);
+        updateHeight(result);
+        return result;
+    }
+
+    private Node rotateRight(final Node theNode) {
+        final Node result = theNode.myLeft;
+        theNode.myLeft = result.myRight;
+        result.myRight = theNode;
+        updateHeight(theNode);
+        updateHeight(result);
+        return result;
+    }
+
+    private void updateHeight(final Node theNode) {
+        final int left = theNode.myLeft == null ? -1 : theNode.myLeft.height;
+        final int right = theNode.myRight == null ? -1 : theNode.myRight.height;
+        theNode.height = 1 + Math.max(left, right);
+    }
+
+    /**
+     * Returns the height of the treap.
+     * @return The height of the treap.
+     */
+    public int height() {
+        return Optional.ofNullable(root).map(node -> node.height).orElse(-1);
+    }
+
+    /**
+     * Returns the size of the treap.
+     * @return The size of the treap.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Returns true if this treap contains no elements.
+     * @return true if this treap contains no elements.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    @Override
+    public String toString() {
+        String result = "[]";
+        if (root != null) {
+            final StringBuilder builder = new StringBuilder();
+            createString(root, builder);
+            result = "[" + builder.substring(0, builder.length() - 2) + "]";
+        }
+        return result;
+    }
+
+    private void createString(final Node theNode, final StringBuilder theBuilder) {
+        if (theNode.myLeft != null) {
+            createString(theNode.myLeft, theBuilder);
+        }
+        theBuilder.append(theNode).append(", ");
+        if (theNode.myRight != null) {
+            createString(theNode.myRight, theBuilder);
+        }
+    }
+
+    public final class Node {
+
+        /** The item stored in this Node. */
+        private final T myItem;
+
+        /** The random priority of this Node, no less than either child's. */
+        private final int myPriority;
+
+        /** The subtree to the left of this Node. */
+        private Node myLeft;
+
+        /** The subtree to the right of this Node. */
+        private Node myRight;
+
+        /** The height of this Node. */
+        public int height;
+
+        private Node(final T theItem, final int thePriority) {
+            super();
+            myItem = theItem;
+            myPriority = thePriority;
+            myLeft = null;
+            myRight = null;
+            height = 0;
+        }
+
+        @Override
+        public String toString() {
+            return myItem.toString() + ":H" + height;
+        }
+    }
+}
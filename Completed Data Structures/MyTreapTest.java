@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyTreapTest
+{
+	private MyTreap<Integer> treap;
+	private List<Integer> reference;
+	private Random random;
+
+	@BeforeEach
+	public final void setup()
+	{
+		treap = new MyTreap<>(342L);
+		reference = new ArrayList<>();
+		random = new Random(342);
+	}
+
+	@Test
+	public final void empty()
+	{
+		assertTrue(treap.isEmpty(), "empty fail");
+		assertEquals(0, treap.size(), "empty fail");
+		assertEquals(-1, treap.height(), "empty fail");
+		assertEquals("[]", treap.toString(), "empty fail");
+		assertNull(treap.find(1), "empty fail");
+		treap.remove(1);
+		assertEquals(0, treap.size(), "empty fail");
+	}
+
+	@Test
+	public final void add_small()
+	{
+		add(3);
+		add(1);
+		add(2);
+		add(2);
+		assertEquals("[1, 2, 2, 3]", items(), "add_small fail");
+		assertEquals(Integer.valueOf(2), treap.find(2), "add_small fail");
+		treap.remove(2);
+		assertEquals("[1, 2, 3]", items(), "add_small fail");
+		treap.remove(2);
+		treap.remove(2);
+		assertEquals("[1, 3]", items(), "add_small fail");
+		assertEquals(2, treap.size(), "add_small fail");
+		assertNull(treap.find(2), "add_small fail");
+	}
+
+	@Test
+	public final void random_operations()
+	{
+		for (int round = 0; round < 100000; round++) {
+			final int item = random.nextInt(round < 50000 ? round + 1 : 5000);
+			if (random.nextInt(3) > 0) {
+				add(item);
+			} else {
+				treap.remove(item);
+				reference.remove(Integer.valueOf(item));
+			}
+			assertEquals(reference.size(), treap.size(), "size fail");
+			assertEquals(reference.isEmpty(), treap.isEmpty(), "isEmpty fail");
+			final Integer probe = random.nextInt(5000);
+			assertEquals(reference.contains(probe) ? probe : null, treap.find(probe), "find fail");
+			if (round % 5000 == 0) {
+				assertEquals(reference.toString(), items(), "order fail");
+			}
+		}
+		assertEquals(reference.toString(), items(), "order fail");
+		while (!reference.isEmpty()) {
+			final Integer item = reference.remove(random.nextInt(reference.size()));
+			treap.remove(item);
+			assertEquals(reference.size(), treap.size(), "drain fail");
+		}
+		assertEquals("[]", treap.toString(), "drain fail");
+		assertEquals(-1, treap.height(), "drain fail");
+	}
+
+	@Test
+	public final void sorted_input_height()
+	{
+		final int size = 100000;
+		final MyTreap<Integer> descending = new MyTreap<>(42L);
+		for (int i = 0; i < size; i++) {
+			treap.add(i);
+			descending.add(size - i);
+		}
+		assertTrue(treap.height() <= bound(size), "ascending height " + treap.height());
+		assertTrue(descending.height() <= bound(size), "descending height " + descending.height());
+		for (int i = 0; i < size; i += 2) {
+			treap.remove(i);
+		}
+		assertEquals(size / 2, treap.size(), "remove fail");
+		assertTrue(treap.height() <= bound(treap.size()), "height after remove " + treap.height());
+		assertNull(treap.find(0), "remove fail");
+		assertEquals(Integer.valueOf(1), treap.find(1), "remove fail");
+	}
+
+	@Test
+	public final void same_seed_same_shape()
+	{
+		final MyTreap<Integer> other = new MyTreap<>(342L);
+		for (int i = 0; i < 1000; i++) {
+			final int item = random.nextInt(200);
+			treap.add(item);
+			other.add(item);
+		}
+		assertEquals(treap.toString(), other.toString(), "same_seed_same_shape fail");
+		assertEquals(treap.height(), other.height(), "same_seed_same_shape fail");
+	}
+
+	private void add(final int theItem)
+	{
+		treap.add(theItem);
+		final int index = Collections.binarySearch(reference, theItem);
+		reference.add(index < 0 ? -index - 1 : index, theItem);
+	}
+
+	private String items()
+	{
+		return treap.toString().replaceAll(":H\\d+", "");
+	}
+
+	/** A generous height allowed for a treap of theSize items, about three times log2(n). */
+	private static double bound(final int theSize)
+	{
+		return theSize < 2 ? 1 : 3 * Math.log(theSize) / Math.log(2);
+	}
+}
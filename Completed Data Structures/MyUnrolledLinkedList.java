@@ -0,0 +1,270 @@
+import java.util.Arrays;
+
+/**
+ * A data structure used as an unrolled linked list with a movable cursor.
+ * Each node stores up to 64 items in an array, so a traversal follows one
+ * pointer per node instead of one per item and reads items sequentially.
+ * @param <T> The generic type of this data structure.
+ * @author Brandon Ragghianti (braggs03)
+ * @version Winter 2024
+ */
+public class MyUnrolledLinkedList<T extends Comparable<T>> {
+
+    /** How many items a node can hold. */
+    private static final int NODE_CAPACITY = 64;
+
+    /** The first Node, null if the list is empty. */
+    private Node<T> myStart;
+
+    /** The last Node, null if the list is empty. */
+    private Node<T> myEnd;
+
+    /** The Node the cursor is in, null once past the end. */
+    private Node<T> myCurrent;
+
+    /** The index of the cursor within myCurrent. */
+    private int myOffset;
+
+    /** How many elements are stored in the list. */
+    private int mySize;
+
+    /** Constructor used to instantiate a new MyUnrolledLinkedList. */
+    public MyUnrolledLinkedList() {
+        super();
+        myStart = null;
+        myEnd = null;
+        myCurrent = null;
+        myOffset = 0;
+        mySize = 0;
+    }
+
+    /**
+     * Adds the element before the current item.
+     * @param theItem the item being added before the current item.
+     */
+    public void addBefore(final T theItem) {
+        if (myCurrent == null) {
+            if (myEnd == null || myEnd.myCount == NODE_CAPACITY) {
+                linkAfter(myEnd, new Node<>());
+            }
+            myEnd.myItems[myEnd.myCount++] = theItem;
+        } else {
+            makeRoom();
+            insert(myCurrent, myOffset, theItem);
+            myOffset++;
+        }
+        mySize++;
+    }
+
+    /**
+     * Adds the element after the current item.
+     * @param theItem The element being added after the current item.
+     */
+    public void addAfter(final T theItem) {
+        if (myCurrent != null) {
+            makeRoom();
+            insert(myCurrent, myOffset + 1, theItem);
+            mySize++;
+        }
+    }
+
+    /**
+     * Removes the current item.
+     * @return The item that was removed, or null if the cursor is past the end.
+     */
+    public T remove() {
+        T result = null;
+        if (myCurrent != null) {
+            final Node<T> node = myCurrent;
+            result = node.myItems[myOffset];
+            System.arraycopy(node.myItems, myOffset + 1, node.myItems, myOffset,
+                             node.myCount - myOffset - 1);
+            node.myItems[--node.myCount] = null;
+            mySize--;
+            if (node.myCount == 0) {
+                myCurrent = node.myNext;
+                myOffset = 0;
+                unlink(node);
+            } else {
+                final Node<T> next = node.myNext;
+                if (next != null && node.myCount + next.myCount <= NODE_CAPACITY / 2) {
+                    System.arraycopy(next.myItems, 0, node.myItems, node.myCount, next.myCount);
+                    node.myCount += next.myCount;
+                    unlink(next);
+                }
+                if (myOffset == node.myCount) {
+                    myCurrent = node.myNext;
+                    myOffset = 0;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * If the given item is in the list.
+     * @param theItem element whose presence in this list is to be tested.
+     * @return true if this list contains the specified element.
+     */
+    public boolean contains(final T theItem) {
+        boolean result = false;
+        Node<T> node = myStart;
+        while (node != null && !result) {
+            for (int i = 0; i < node.myCount; i++) {
+                if (node.myItems[i].compareTo(theItem) == 0) {
+                    result = true;
+                    break;
+                }
+            }
+            node = node.myNext;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return the size of the list.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Returns if the list is empty.
+     * @return returns if the list is empty.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /**
+     * Moves the cursor to the start of the list and returns its item.
+     * @return The item at the start of the list.
+     */
+    public T first() {
+        myCurrent = myStart;
+        myOffset = 0;
+        return current();
+    }
+
+    /**
+     * Returns the item at the cursor.
+     * @return The item at the cursor.
+     */
+    public T current() {
+        return myCurrent == null ? null : myCurrent.myItems[myOffset];
+    }
+
+    /**
+     * Moves the cursor forward and returns the item it lands on.
+     * @return The item after the current item.
+     */
+    public T next() {
+        T result = null;
+        if (myCurrent != null) {
+            myOffset++;
+            if (myOffset == myCurrent.myCount) {
+                myCurrent = myCurrent.myNext;
+                myOffset = 0;
+            }
+            result = current();
+        }
+        return result;
+    }
+
+    /**
+     * Splits the cursor's node in half if it is full, keeping the cursor on the same item.
+     */
+    private void makeRoom() {
+        if (myCurrent.myCount == NODE_CAPACITY) {
+            final Node<T> temp = new Node<>();
+            final int keep = NODE_CAPACITY / 2;
+            temp.myCount = NODE_CAPACITY - keep;
+            System.arraycopy(myCurrent.myItems, keep, temp.myItems, 0, temp.myCount);
+            Arrays.fill(myCurrent.myItems, keep, NODE_CAPACITY, null);
+            myCurrent.myCount = keep;
+            linkAfter(myCurrent, temp);
+            if (myOffset >= keep) {
+                myCurrent = temp;
+                myOffset -= keep;
+            }
+        }
+    }
+
+    private void insert(final Node<T> theNode, final int theOffset, final T theItem) {
+        System.arraycopy(theNode.myItems, theOffset, theNode.myItems, theOffset + 1,
+                         theNode.myCount - theOffset);
+        theNode.myItems[theOffset] = theItem;
+        theNode.myCount++;
+    }
+
+    /** Links theNode after thePrevious, or at the start if thePrevious is null. */
+    private void linkAfter(final Node<T> thePrevious, final Node<T> theNode) {
+        final Node<T> next = thePrevious == null ? myStart : thePrevious.myNext;
+        theNode.myPrevious = thePrevious;
+        theNode.myNext = next;
+        if (thePrevious == null) {
+            myStart = theNode;
+        } else {
+            thePrevious.myNext = theNode;
+        }
+        if (next == null) {
+            myEnd = theNode;
+        } else {
+            next.myPrevious = theNode;
+        }
+    }
+
+    private void unlink(final Node<T> theNode) {
+        if (theNode.myPrevious == null) {
+            myStart = theNode.myNext;
+        } else {
+            theNode.myPrevious.myNext = theNode.myNext;
+        }
+        if (theNode.myNext == null) {
+            myEnd = theNode.myPrevious;
+        } else {
+            theNode.myNext.myPrevious = theNode.myPrevious;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("[");
+        Node<T> node = myStart;
+        while (node != null) {
+            for (int i = 0; i < node.myCount; i++) {
+                builder.append(node.myItems[i].toString());
+                if (i < node.myCount - 1 || node.myNext != null) {
+                    builder.append(", ");
+                }
+            }
+            node = node.myNext;
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    private static final class Node<T extends Comparable<T>> {
+
+        /** The items stored in this Node. */
+        private final T[] myItems;
+
+        /** How many items are stored in this Node. */
+        private int myCount;
+
+        /** The Node after this Node. */
+        private Node<T> myNext;
+
+        /** The Node before this Node. */
+        private Node<T> myPrevious;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Node() {
+            super();
+            myItems = (T[]) new Comparable[NODE_CAPACITY];
+            myCount = 0;
+        }
+    }
+}
@@ -24,6 +24,7 @@ public class UniqueWords {
         book = new BookReader();
         alOfUniqueWords = new MyArrayList<>();
         llOfUniqueWords = new MyLinkedList<>();
+        llOfUniqueWords.enableHashIndex();
         olOfUniqueWords = new MyOrderedList<>();
     }
 
@@ -64,7 +65,7 @@ public class UniqueWords {
         final long startTime = System.currentTimeMillis();
         String c = book.words.first();
         while (c != null) {
-            if (!olOfUniqueWords.binarySearch(c)) {
+            if (olOfUniqueWords.binarySearch(c) == null) {
                 olOfUniqueWords.add(c);
             }
             c = book.words.next();